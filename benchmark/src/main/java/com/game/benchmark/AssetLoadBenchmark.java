@@ -0,0 +1,91 @@
+package com.game.benchmark;
+
+import com.game.asset_helper.AssetManager;
+import com.game.asset_helper.SpriteLoader;
+import com.game.window.GameAssets;
+import com.game.world.Map;
+import com.game.world.TextMapReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost of the bundled assets: building the sprite atlas from the sheets,
+ * parsing map1's CSV layers, constructing a Map (opens map1.tmap, starts streaming),
+ * and loading all of it in parallel as the game does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetLoadBenchmark {
+
+    private static final String[] MAP1_LAYERS = {"background", "grass", "collision"};
+
+    @Benchmark
+    public SpriteLoader spriteLoader() {
+        return new SpriteLoader();
+    }
+
+    /**
+     * Everything GameWorld waits for (both sheets, atlas, map) through the AssetManager.
+     */
+    @Benchmark
+    public GameAssets allAssets(AssetManagerState state) {
+        return GameAssets.load(state.assetManager).get();
+    }
+
+    @Benchmark
+    public void map1CsvParse(Blackhole blackhole) throws IOException {
+        for (String layer : MAP1_LAYERS) {
+            blackhole.consume(TextMapReader.readResource("/map_resources/map/map1_" + layer + ".txt"));
+        }
+    }
+
+    @Benchmark
+    public int map1Open(SpriteLoaderState state) {
+        Map map = new Map(state.spriteLoader);
+        map.getChunkManager().shutdown();
+        return map.getRows();
+    }
+
+    @State(Scope.Benchmark)
+    public static class AssetManagerState {
+        @Param({"1", "4"})
+        public int threads;
+
+        AssetManager assetManager;
+
+        // Fresh manager per call: it caches decoded images by path
+        @Setup(Level.Invocation)
+        public void setUp() {
+            assetManager = new AssetManager(threads);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            assetManager.shutdown();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SpriteLoaderState {
+        final SpriteLoader spriteLoader = new SpriteLoader();
+    }
+}
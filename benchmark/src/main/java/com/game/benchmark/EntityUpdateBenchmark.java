@@ -0,0 +1,143 @@
+package com.game.benchmark;
+
+import com.game.asset_helper.SpriteLoader;
+import com.game.entity.AnimationSystem;
+import com.game.entity.EntityCollisionSystem;
+import com.game.entity.EntityStore;
+import com.game.entity.MovementSystem;
+import com.game.entity.NpcSystem;
+import com.game.entity.Player;
+import com.game.entity.SpatialGrid;
+import com.game.entity.UpdateScheduler;
+import com.game.window.GameLoop;
+import com.game.world.TileCollider;
+import com.game.world.TileGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * One world tick over thousands of wandering entities, as GameWorld runs it:
+ * NPC AI, movement with tile collision and animation in (optionally parallel) batches,
+ * then spatial grid reindexing and entity-entity collision.
+ * threads = 0 uses every core.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityUpdateBenchmark {
+
+    private static final int MAP_SIZE = 500;
+    private static final float DELTA_TIME = GameLoop.fixedDelta(60); // The game's step at 60 UPS
+
+    @Param({"1000", "10000", "100000"})
+    public int entities;
+
+    @Param({"1", "0"})
+    public int threads;
+
+    private EntityStore store;
+    private UpdateScheduler scheduler;
+    private UpdateScheduler.RangeTask batch;
+    private SpatialGrid grid;
+    private EntityCollisionSystem collisionSystem;
+    private AnimationSystem animationSystem;
+
+    @Setup
+    public void setUp() {
+        SpriteLoader spriteLoader = new SpriteLoader();
+        TileCollider collider = new TileCollider(generateCollisionGrid());
+        float worldWidth = MAP_SIZE * TILE_WIDTH, worldHeight = MAP_SIZE * TILE_HEIGHT;
+
+        store = spawn(entities);
+        NpcSystem npcSystem = new NpcSystem(store);
+        MovementSystem movementSystem = new MovementSystem(store, collider, worldWidth, worldHeight);
+        animationSystem = new AnimationSystem(store, spriteLoader);
+        batch = (deltaTime, from, to) -> {
+            npcSystem.update(deltaTime, from, to);
+            movementSystem.update(deltaTime, from, to);
+            animationSystem.update(deltaTime, from, to);
+        };
+        scheduler = new UpdateScheduler(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+        grid = new SpatialGrid(store, worldWidth, worldHeight);
+        grid.update();
+        collisionSystem = new EntityCollisionSystem(store, grid, collider, worldWidth, worldHeight);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Per-entity systems only (the parallel phase).
+     */
+    @Benchmark
+    public EntityStore systems() {
+        scheduler.run(batch, DELTA_TIME, store.size());
+        return store;
+    }
+
+    /**
+     * Animation pass alone, single threaded.
+     */
+    @Benchmark
+    public EntityStore animation() {
+        animationSystem.update(DELTA_TIME);
+        return store;
+    }
+
+    /**
+     * Full tick including the serial phase.
+     */
+    @Benchmark
+    public EntityStore worldTick() {
+        scheduler.run(batch, DELTA_TIME, store.size());
+        grid.update();
+        collisionSystem.update();
+        return store;
+    }
+
+    private static EntityStore spawn(int count) {
+        EntityStore entities = new EntityStore();
+        Random random = new Random(1);
+        for (int i = 0; i < count; i++) {
+            int id = entities.create(random.nextFloat() * (MAP_SIZE - 2) * TILE_WIDTH,
+                    random.nextFloat() * (MAP_SIZE - 2) * TILE_HEIGHT, 64, 64,
+                    EntityStore.FLAG_COLLIDES | EntityStore.FLAG_NPC);
+            entities.setHitbox(id, Player.HITBOX_X, Player.HITBOX_Y, Player.HITBOX_WIDTH, Player.HITBOX_HEIGHT);
+        }
+        return entities;
+    }
+
+    /**
+     * Scatters solid tiles over roughly a tenth of a square map.
+     */
+    static TileGrid generateCollisionGrid() {
+        int[][] layer = new int[MAP_SIZE][MAP_SIZE];
+        for (int row = 0; row < MAP_SIZE; row++) {
+            for (int col = 0; col < MAP_SIZE; col++) {
+                layer[row][col] = (row * 31 + col * 17) % 10 == 0 ? 0 : -1;
+            }
+        }
+        return TileGrid.fromLayers(new String[]{TileCollider.COLLISION_LAYER}, layer);
+    }
+}
@@ -0,0 +1,110 @@
+package com.game.benchmark;
+
+import com.game.world.BinaryChunkSource;
+import com.game.world.Chunk;
+import com.game.world.ChunkSource;
+import com.game.world.MapFormat;
+import com.game.world.TextMapReader;
+import com.game.world.TileGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Map data loading: CSV parsing (what Map used to do on startup) vs opening the
+ * memory-mapped .tmap, and decoding every chunk of it, raw and deflated.
+ * size = tiles per side of a generated single-layer map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapLoadBenchmark {
+
+    @Param({"30", "1000"})
+    public int size;
+
+    private Path dir, text, binary, deflated;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("map-bench");
+        text = dir.resolve("layer.txt");
+        binary = dir.resolve("layer" + MapFormat.EXTENSION);
+        deflated = dir.resolve("layer-deflate" + MapFormat.EXTENSION);
+
+        int[][] layer = new int[size][size];
+        try (Writer writer = Files.newBufferedWriter(text)) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    layer[row][col] = (row * 31 + col * 17) % 11 == 0 ? 72 + (row + col) % 5 : -1;
+                    writer.write(col == 0 ? "" : ",\t");
+                    writer.write(Integer.toString(layer[row][col]));
+                }
+                writer.write('\n');
+            }
+        }
+        TileGrid grid = TileGrid.fromLayers(new String[]{"grass"}, layer);
+        MapFormat.write(binary, grid, false);
+        MapFormat.write(deflated, grid, true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int[][] csvParse() throws IOException {
+        try (InputStream in = Files.newInputStream(text)) {
+            return TextMapReader.read(in, text.toString());
+        }
+    }
+
+    @Benchmark
+    public ChunkSource tmapOpen() throws IOException {
+        return BinaryChunkSource.open(binary);
+    }
+
+    @Benchmark
+    public void tmapDecodeAll(Blackhole blackhole) throws IOException {
+        decodeAll(BinaryChunkSource.open(binary), blackhole);
+    }
+
+    @Benchmark
+    public void deflatedTmapDecodeAll(Blackhole blackhole) throws IOException {
+        decodeAll(BinaryChunkSource.open(deflated), blackhole);
+    }
+
+    private void decodeAll(ChunkSource source, Blackhole blackhole) throws IOException {
+        int chunks = (size + Chunk.SIZE - 1) / Chunk.SIZE;
+        for (int chunkY = 0; chunkY < chunks; chunkY++) {
+            for (int chunkX = 0; chunkX < chunks; chunkX++) {
+                blackhole.consume(source.loadChunk(chunkX, chunkY));
+            }
+        }
+    }
+}
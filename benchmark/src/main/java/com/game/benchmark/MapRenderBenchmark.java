@@ -0,0 +1,107 @@
+package com.game.benchmark;
+
+import com.game.asset_helper.SpriteLoader;
+import com.game.world.GridChunkSource;
+import com.game.world.Map;
+import com.game.world.TileGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.constants.GameConstant.GAME_HEIGHT;
+import static com.game.constants.GameConstant.GAME_WIDTH;
+
+/**
+ * Map.render for one full view, tile by tile vs the pre-baked layer cache,
+ * for the bundled map and a generated 1,000 x 1,000 tile world.
+ * The view pans one pixel per call so the cache has to follow it; chunks are
+ * preloaded synchronously so every call draws a full view.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapRenderBenchmark {
+
+    private static final int LARGE_MAP_SIZE = 1_000;
+
+    @Param({"map1", "large"})
+    public String world;
+
+    @Param({"true", "false"})
+    public boolean layerCache;
+
+    private Map map;
+    private BufferedImage target;
+    private Graphics2D g;
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        SpriteLoader spriteLoader = new SpriteLoader();
+        map = world.equals("map1")
+                ? new Map(spriteLoader)
+                : new Map(spriteLoader, new GridChunkSource(TileGrid.fromLayers(new String[]{"background", "grass"},
+                        generateLayer(0), generateLayer(-1))));
+        map.setLayerCacheEnabled(layerCache);
+        target = createTarget();
+        g = target.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g.dispose();
+        map.getChunkManager().shutdown();
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        int viewX = frame % Math.max(1, map.getPixelWidth() - GAME_WIDTH);
+        int viewY = frame % Math.max(1, map.getPixelHeight() - GAME_HEIGHT);
+        frame++;
+
+        map.preload(viewX, viewY, GAME_WIDTH, GAME_HEIGHT);
+        g.translate(-viewX, -viewY);
+        map.render(g, viewX, viewY, GAME_WIDTH, GAME_HEIGHT);
+        g.translate(viewX, viewY);
+        return target;
+    }
+
+    /**
+     * Fills a large layer with a repeating pattern around a base tile.
+     */
+    private static int[][] generateLayer(int fill) {
+        int[][] layer = new int[LARGE_MAP_SIZE][LARGE_MAP_SIZE];
+        for (int row = 0; row < LARGE_MAP_SIZE; row++) {
+            for (int col = 0; col < LARGE_MAP_SIZE; col++) {
+                layer[row][col] = (row * 31 + col * 17) % 11 == 0 ? 72 + (row + col) % 5 : fill;
+            }
+        }
+        return layer;
+    }
+
+    private static BufferedImage createTarget() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(GAME_WIDTH, GAME_HEIGHT);
+    }
+}
@@ -0,0 +1,89 @@
+package com.game.benchmark;
+
+import com.game.asset_helper.SpriteLoader;
+import com.game.entity.AnimationSystem;
+import com.game.entity.EntityStore;
+import com.game.entity.MovementSystem;
+import com.game.entity.Player;
+import com.game.window.GameLoop;
+import com.game.world.TileCollider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Cost of one player tick: input → velocity/action (Player.update), the animation step
+ * that used to be Player.animatePlayer, and the whole tick with swept tile collision.
+ * Input walks a square so every action and the collision sweeps get exercised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerUpdateBenchmark {
+
+    private static final float DELTA_TIME = GameLoop.fixedDelta(60); // The game's step at 60 UPS
+    private static final int TICKS_PER_SIDE = 90;
+
+    private EntityStore entities;
+    private Player player;
+    private MovementSystem movementSystem;
+    private AnimationSystem animationSystem;
+    private int tick;
+
+    @Setup
+    public void setUp() {
+        entities = new EntityStore();
+        player = new Player(entities, 100, 100, 32, 32);
+        TileCollider collider = new TileCollider(EntityUpdateBenchmark.generateCollisionGrid());
+        movementSystem = new MovementSystem(entities, collider, 500 * TILE_WIDTH, 500 * TILE_HEIGHT);
+        animationSystem = new AnimationSystem(entities, new SpriteLoader());
+    }
+
+    @Benchmark
+    public EntityStore playerUpdate() {
+        steer();
+        player.update(DELTA_TIME);
+        return entities;
+    }
+
+    @Benchmark
+    public EntityStore animate() {
+        animationSystem.update(DELTA_TIME);
+        return entities;
+    }
+
+    @Benchmark
+    public EntityStore fullTick() {
+        steer();
+        player.update(DELTA_TIME);
+        movementSystem.update(DELTA_TIME);
+        animationSystem.update(DELTA_TIME);
+        return entities;
+    }
+
+    /**
+     * Right, down, left, up, one side per TICKS_PER_SIDE ticks.
+     */
+    private void steer() {
+        int side = (tick++ / TICKS_PER_SIDE) & 3;
+        player.setRight(side == 0);
+        player.setDown(side == 1);
+        player.setLeft(side == 2);
+        player.setUp(side == 3);
+    }
+}
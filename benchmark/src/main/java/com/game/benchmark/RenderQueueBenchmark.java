@@ -0,0 +1,58 @@
+package com.game.benchmark;
+
+import com.game.render.RenderQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling and radix-sorting the RenderQueue for one frame of sprites scattered over a
+ * large world (random depths). Drawing is left out; see MapRenderBenchmark and
+ * SpriteBlitBenchmark for blit cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderQueueBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int sprites;
+
+    private final RenderQueue queue = new RenderQueue(16); // Grows during warmup
+    private int[] depths, xs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        depths = new int[sprites];
+        xs = new int[sprites];
+        for (int i = 0; i < sprites; i++) {
+            depths[i] = random.nextInt(100_000);
+            xs[i] = random.nextInt(100_000);
+        }
+    }
+
+    @Benchmark
+    public int submitAndSort() {
+        queue.clear();
+        for (int i = 0; i < sprites; i++) {
+            queue.submit(RenderQueue.LAYER_ENTITIES, depths[i], i & 63, xs[i], depths[i] - 32);
+        }
+        queue.sort();
+        return queue.getSortedSpriteId(0);
+    }
+}
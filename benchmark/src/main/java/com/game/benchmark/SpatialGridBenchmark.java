@@ -0,0 +1,132 @@
+package com.game.benchmark;
+
+import com.game.entity.EntityStore;
+import com.game.entity.Player;
+import com.game.entity.SpatialGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Finding every overlapping hitbox pair with the SpatialGrid vs brute force (all pairs),
+ * and refiling entities after all of them moved.
+ * Entity density is constant (one per 16 tiles), so linear methods cost the same per entity
+ * at every size. Brute force only runs up to 10k entities; beyond that one call takes seconds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpatialGridBenchmark {
+
+    private static final int TILES_PER_ENTITY = 16;
+
+    @State(Scope.Thread)
+    public static class GridState {
+        @Param({"1000", "10000", "100000"})
+        public int entities;
+
+        EntityStore store;
+        SpatialGrid grid;
+        final int[] scratch = new int[256];
+        int round;
+
+        @Setup
+        public void setUp() {
+            int mapSize = (int) Math.ceil(Math.sqrt((double) entities * TILES_PER_ENTITY));
+            store = spawn(entities, mapSize);
+            grid = new SpatialGrid(store, mapSize * TILE_WIDTH, mapSize * TILE_HEIGHT);
+            grid.update();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BruteForceState {
+        @Param({"1000", "10000"})
+        public int entities;
+
+        EntityStore store;
+
+        @Setup
+        public void setUp() {
+            store = spawn(entities, (int) Math.ceil(Math.sqrt((double) entities * TILES_PER_ENTITY)));
+        }
+    }
+
+    @Benchmark
+    public long gridPairs(GridState state) {
+        EntityStore entities = state.store;
+        int[] scratch = state.scratch;
+        long pairs = 0;
+        for (int id = 0; id < entities.size(); id++) {
+            float left = entities.getX(id) + Player.HITBOX_X;
+            float top = entities.getY(id) + Player.HITBOX_Y;
+            int found = state.grid.queryAabb(left, top, left + Player.HITBOX_WIDTH, top + Player.HITBOX_HEIGHT,
+                    scratch);
+            for (int i = 0; i < Math.min(found, scratch.length); i++) {
+                if (scratch[i] > id) pairs++;
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Moves every entity a few pixels (about one 60 Hz tick at walking speed) and reindexes.
+     */
+    @Benchmark
+    public SpatialGrid moveAndUpdate(GridState state) {
+        EntityStore entities = state.store;
+        int round = state.round++;
+        for (int id = 0; id < entities.size(); id++) {
+            float step = ((id + round) & 1) == 0 ? 3f : -3f;
+            entities.setPosition(id, entities.getX(id) + step, entities.getY(id) - step);
+        }
+        state.grid.update();
+        return state.grid;
+    }
+
+    @Benchmark
+    public long bruteForcePairs(BruteForceState state) {
+        EntityStore entities = state.store;
+        long pairs = 0;
+        int count = entities.size();
+        for (int a = 0; a < count; a++) {
+            float leftA = entities.getX(a) + Player.HITBOX_X, topA = entities.getY(a) + Player.HITBOX_Y;
+            for (int b = a + 1; b < count; b++) {
+                float leftB = entities.getX(b) + Player.HITBOX_X, topB = entities.getY(b) + Player.HITBOX_Y;
+                if (leftA < leftB + Player.HITBOX_WIDTH && leftB < leftA + Player.HITBOX_WIDTH
+                        && topA < topB + Player.HITBOX_HEIGHT && topB < topA + Player.HITBOX_HEIGHT) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static EntityStore spawn(int count, int mapSize) {
+        EntityStore entities = new EntityStore();
+        Random random = new Random(1);
+        float maxX = (mapSize - 2) * TILE_WIDTH, maxY = (mapSize - 2) * TILE_HEIGHT;
+        for (int i = 0; i < count; i++) {
+            int id = entities.create(random.nextFloat() * maxX, random.nextFloat() * maxY, 64, 64,
+                    EntityStore.FLAG_COLLIDES);
+            entities.setHitbox(id, Player.HITBOX_X, Player.HITBOX_Y, Player.HITBOX_WIDTH, Player.HITBOX_HEIGHT);
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,88 @@
+package com.game.benchmark;
+
+import com.game.asset_helper.AssetManager;
+import com.game.asset_helper.ImageUtils;
+import com.game.asset_helper.SpriteLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.game.constants.GameConstant.SPRITE_SCALE;
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Blit cost of one frame's worth of tiles (30x20 cells, 2 layers):
+ * legacy getSubimage views scaled at draw time vs pre-scaled atlas sprites.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteBlitBenchmark {
+
+    private static final int COLS = 30, ROWS = 20, LAYERS = 2;
+    private static final int MAP_FRAME_SIZE = 16;
+
+    private BufferedImage[] views;
+    private SpriteLoader spriteLoader;
+    private BufferedImage target;
+    private Graphics2D g;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage sheet = AssetManager.readImage("/img/map/Env.png");
+        int sheetCols = sheet.getWidth() / MAP_FRAME_SIZE;
+        views = new BufferedImage[sheetCols * (sheet.getHeight() / MAP_FRAME_SIZE)];
+        for (int i = 0; i < views.length; i++) {
+            views[i] = sheet.getSubimage((i % sheetCols) * MAP_FRAME_SIZE, (i / sheetCols) * MAP_FRAME_SIZE,
+                    MAP_FRAME_SIZE, MAP_FRAME_SIZE);
+        }
+        spriteLoader = new SpriteLoader();
+        target = ImageUtils.createCompatibleImage(COLS * TILE_WIDTH, ROWS * TILE_HEIGHT);
+        g = target.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage subimageScaled() {
+        for (int layer = 0; layer < LAYERS; layer++) {
+            for (int cell = 0; cell < COLS * ROWS; cell++) {
+                g.drawImage(views[(cell + layer) % views.length],
+                        (cell % COLS) * TILE_WIDTH, (cell / COLS) * TILE_HEIGHT,
+                        MAP_FRAME_SIZE * SPRITE_SCALE, MAP_FRAME_SIZE * SPRITE_SCALE, null);
+            }
+        }
+        return target;
+    }
+
+    @Benchmark
+    public BufferedImage atlas() {
+        for (int layer = 0; layer < LAYERS; layer++) {
+            for (int cell = 0; cell < COLS * ROWS; cell++) {
+                spriteLoader.draw(g, spriteLoader.getMapSpriteId((cell + layer) % views.length),
+                        (cell % COLS) * TILE_WIDTH, (cell / COLS) * TILE_HEIGHT);
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,86 @@
+package com.game.benchmark;
+
+import com.game.asset_helper.SpriteLoader;
+import com.game.render.RenderQueue;
+import com.game.render.TileRasterizer;
+import com.game.world.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One software-rasterized frame of map1 plus player sprites scattered over the view,
+ * at the game's size and at 4x the pixels, by worker count (0 = every core).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TileRasterizerBenchmark {
+
+    @Param({"800x480", "1600x960"})
+    public String size;
+
+    @Param({"0", "500"})
+    public int sprites;
+
+    @Param({"1", "0"})
+    public int threads;
+
+    private Map map;
+    private SpriteLoader spriteLoader;
+    private TileRasterizer rasterizer;
+    private final RenderQueue queue = new RenderQueue(16);
+    private int[] spriteX, spriteY;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]), height = Integer.parseInt(dimensions[1]);
+        spriteLoader = new SpriteLoader();
+        map = new Map(spriteLoader);
+        map.preload(0, 0, width, height);
+        rasterizer = new TileRasterizer(spriteLoader.getAtlas(), width, height, Color.BLACK,
+                threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+
+        Random random = new Random(1);
+        spriteX = new int[sprites];
+        spriteY = new int[sprites];
+        for (int i = 0; i < sprites; i++) {
+            spriteX[i] = random.nextInt(width);
+            spriteY[i] = random.nextInt(height);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        rasterizer.shutdown();
+        map.getChunkManager().shutdown();
+    }
+
+    @Benchmark
+    public BufferedImage rasterize() {
+        int spriteId = spriteLoader.getAnimations().get(0).getSpriteId(0);
+        for (int i = 0; i < sprites; i++) {
+            queue.submit(RenderQueue.LAYER_ENTITIES, spriteY[i], spriteId, spriteX[i], spriteY[i]);
+        }
+        rasterizer.render(map, queue, 0, 0);
+        return rasterizer.getImage();
+    }
+}
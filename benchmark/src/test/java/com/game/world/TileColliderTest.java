@@ -0,0 +1,173 @@
+package com.game.world;
+
+import com.game.asset_helper.SpriteLoader;
+import org.junit.jupiter.api.Test;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TileCollider sweeps on small hand-built grids. Boxes are 16x16 (half a tile);
+ * '#' in a grid is a solid collision tile, '.' is free.
+ */
+class TileColliderTest {
+
+    private static final float BOX = 16;
+    private static final float FLUSH = 0.01f; // Resolved edges end within this of the wall
+
+    @Test
+    void freePathMovesFullDistance() {
+        TileCollider collider = collider(
+                "......",
+                "......",
+                "......");
+
+        assertEquals(30f, collider.sweepX(40, 40, BOX, BOX, 30f));
+        assertEquals(-30f, collider.sweepX(100, 40, BOX, BOX, -30f));
+        assertEquals(20f, collider.sweepY(40, 10, BOX, BOX, 20f));
+        assertEquals(-20f, collider.sweepY(40, 50, BOX, BOX, -20f));
+        assertEquals(0f, collider.sweepX(40, 40, BOX, BOX, 0f));
+    }
+
+    @Test
+    void wallStopsBoxFlushAgainstIt() {
+        TileCollider collider = collider(
+                "#..#..",
+                "#..#..",
+                "#..#..");
+
+        // Right: wall column 3 starts at x = 96
+        float right = collider.sweepX(40, 40, BOX, BOX, 100f);
+        assertFlushBelow(40 + BOX + right, 3 * TILE_WIDTH);
+        // Left: wall column 0 ends at x = 32
+        float left = collider.sweepX(40, 40, BOX, BOX, -100f);
+        assertFlushAbove(40 + left, TILE_WIDTH);
+    }
+
+    @Test
+    void wallStopsBoxVertically() {
+        TileCollider collider = collider(
+                "######",
+                "......",
+                "######");
+
+        float down = collider.sweepY(40, 40, BOX, BOX, 100f);
+        assertFlushBelow(40 + BOX + down, 2 * TILE_HEIGHT);
+        float up = collider.sweepY(40, 40, BOX, BOX, -100f);
+        assertFlushAbove(40 + up, TILE_HEIGHT);
+    }
+
+    @Test
+    void boxResolvedAgainstWallCanSlideAlongIt() {
+        TileCollider collider = collider(
+                "...#..",
+                "...#..",
+                "...#..");
+
+        float x = 40 + collider.sweepX(40, 10, BOX, BOX, 100f); // Now flush with the wall
+        assertEquals(40f, collider.sweepY(x, 10, BOX, BOX, 40f));
+        assertEquals(0f, collider.sweepX(x, 50, BOX, BOX, 5f), FLUSH); // Still blocked, not inside
+    }
+
+    @Test
+    void mapEdgeIsSolid() {
+        TileCollider collider = collider(
+                "...",
+                "...");
+        int width = 3 * TILE_WIDTH, height = 2 * TILE_HEIGHT;
+
+        assertFlushAbove(5 + collider.sweepX(5, 10, BOX, BOX, -20f), 0);
+        assertFlushBelow(70 + BOX + collider.sweepX(70, 10, BOX, BOX, 50f), width);
+        assertFlushAbove(5 + collider.sweepY(10, 5, BOX, BOX, -20f), 0);
+        assertFlushBelow(40 + BOX + collider.sweepY(10, 40, BOX, BOX, 50f), height);
+        assertTrue(collider.isSolid(-1, 0));
+        assertTrue(collider.isSolid(0, 3));
+    }
+
+    @Test
+    void diagonalMoveStopsOnlyOnTheBlockedAxis() {
+        // Single solid corner tile at row 2, col 2 (x and y 64..96)
+        TileCollider collider = collider(
+                "....",
+                "....",
+                "..#.",
+                "....");
+
+        // Box at (40, 40) moving (+20, +20), resolved x first like MovementSystem
+        float dx = collider.sweepX(40, 40, BOX, BOX, 20f);
+        assertEquals(20f, dx); // Still in row 1, nothing to the right
+        float dy = collider.sweepY(40 + dx, 40, BOX, BOX, 20f);
+        assertFlushBelow(40 + BOX + dy, 2 * TILE_HEIGHT); // Now over column 2 → lands on the corner
+
+        // Same move, but the box stays left of column 2 → passes the corner
+        assertEquals(20f, collider.sweepY(40, 40, BOX, BOX, 20f));
+        // Passing diagonally past the corner from the other side is free on both axes
+        assertEquals(-20f, collider.sweepX(100, 10, BOX, BOX, -20f));
+        assertEquals(20f, collider.sweepY(80, 10, BOX, BOX, 20f));
+    }
+
+    @Test
+    void gridWithoutCollisionLayerIsFreeInside() {
+        TileGrid grid = new TileGrid(2, 2, "background");
+        TileCollider collider = new TileCollider(grid);
+
+        assertFalse(collider.isSolid(0, 0));
+        assertEquals(10f, collider.sweepX(5, 5, BOX, BOX, 10f));
+        assertTrue(collider.isSolid(0, 2)); // Edge still solid
+    }
+
+    @Test
+    void unloadedChunkIsSolidUntilStreamedIn() {
+        TileGrid grid = grid(
+                "......",
+                "......",
+                "......");
+        Map map = new Map(new SpriteLoader(), new GridChunkSource(grid));
+        try {
+            TileCollider collider = new TileCollider(map);
+            // Nothing loaded yet: every cell blocks, so the box stops at the edge of its own cell
+            assertTrue(collider.isSolid(1, 1));
+            assertFlushBelow(40 + BOX + collider.sweepX(40, 40, BOX, BOX, 30f), 2 * TILE_WIDTH);
+
+            map.preload(0, 0, map.getPixelWidth(), map.getPixelHeight());
+            assertFalse(collider.isSolid(1, 1));
+            assertEquals(30f, collider.sweepX(40, 40, BOX, BOX, 30f));
+        } finally {
+            map.getChunkManager().shutdown();
+        }
+    }
+
+    // ===== Helpers =====
+
+    private static TileCollider collider(String... rows) {
+        return new TileCollider(grid(rows));
+    }
+
+    /**
+     * Builds a grid with a collision layer from rows of '#' (solid) and '.' (free).
+     */
+    private static TileGrid grid(String... rows) {
+        TileGrid grid = new TileGrid(rows.length, rows[0].length(), "background", TileCollider.COLLISION_LAYER);
+        int layer = grid.getLayerIndex(TileCollider.COLLISION_LAYER);
+        for (int row = 0; row < rows.length; row++) {
+            for (int col = 0; col < rows[row].length(); col++) {
+                if (rows[row].charAt(col) == '#') grid.setTile(layer, row, col, 0);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Moving edge ended at or just before the wall, never past it.
+     */
+    private static void assertFlushBelow(float edge, float wall) {
+        assertTrue(edge <= wall && edge > wall - FLUSH, "edge " + edge + " not flush below " + wall);
+    }
+
+    private static void assertFlushAbove(float edge, float wall) {
+        assertTrue(edge >= wall && edge < wall + FLUSH, "edge " + edge + " not flush above " + wall);
+    }
+}
@@ -0,0 +1,145 @@
+package com.game;
+
+import com.game.constants.GameConfig;
+import com.game.profiling.FrameEvent;
+import com.game.profiling.FrameTimer;
+import com.game.profiling.TickEvent;
+import com.game.profiling.TickTimer;
+import com.game.window.GameLoop;
+import com.game.window.GamePanel;
+import com.game.window.GameWorld;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.game.constants.GameConstant.GAME_HEIGHT;
+import static com.game.constants.GameConstant.GAME_WIDTH;
+
+/**
+ * Runs the simulation with no window, at full speed, and reports tick and render cost.
+ * Works on machines without a display: no GameFrame, GameCanvas or GamePanel is created,
+ * and frames (if wanted) are drawn into an off-screen image.
+ * <p>
+ * Usage: java com.game.HeadlessRunner [--ticks N] [--warmup N] [--render-every N]
+ * [--npcs N] [--seed S] [--screenshot frame.png]
+ * (or java com.game.Main --headless ...). Other options come from GameConfig as usual.
+ */
+public class HeadlessRunner {
+
+    private static final String USAGE = "Usage: HeadlessRunner [--ticks N] [--warmup N] [--render-every N]"
+            + " [--npcs N] [--seed S] [--screenshot frame.png]";
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true"); // Before anything touches AWT
+
+        long ticks = 6_000, warmupTicks = 600;
+        int renderEvery = 0; // 0 = simulation only
+        int npcCount = GameConfig.NPC_COUNT;
+        long seed = GameConfig.WORLD_SEED;
+        Path screenshot = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--ticks" -> ticks = Long.parseLong(args[++i]);
+                    case "--warmup" -> warmupTicks = Long.parseLong(args[++i]);
+                    case "--render-every" -> renderEvery = Integer.parseInt(args[++i]);
+                    case "--npcs" -> npcCount = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--screenshot" -> screenshot = Path.of(args[++i]);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        GameWorld world = new GameWorld(npcCount, seed);
+        BufferedImage frame = new BufferedImage(GAME_WIDTH, GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        float deltaTime = GameLoop.fixedDelta(GameConfig.UPDATES_PER_SECOND); // Same step as the game
+
+        run(world, frame, deltaTime, warmupTicks, renderEvery, null);
+        Stats stats = new Stats();
+        run(world, frame, deltaTime, ticks, renderEvery, stats);
+        stats.print(npcCount);
+
+        if (screenshot != null) {
+            render(world, frame);
+            ImageIO.write(frame, "png", screenshot.toFile());
+            System.out.println("Wrote " + screenshot);
+        }
+        System.exit(0); // Loader and update pools are daemon threads, but don't wait on anything
+    }
+
+    private static void run(GameWorld world, BufferedImage frame, float deltaTime, long ticks,
+                            int renderEvery, Stats stats) {
+        TickTimer tickTimer = new TickTimer();
+        FrameTimer frameTimer = new FrameTimer();
+        for (long tick = 0; tick < ticks; tick++) {
+            TickEvent tickEvent = tickTimer.begin();
+            world.update(deltaTime);
+            long updated = tickTimer.end(tickEvent, world.getTickCount());
+            if (stats != null) stats.recordTick(updated - tickTimer.getStartNanos());
+
+            if (renderEvery > 0 && tick % renderEvery == 0) {
+                FrameEvent frameEvent = frameTimer.begin();
+                render(world, frame);
+                long rendered = frameTimer.end(frameEvent, world.getRenderedSnapshot().getTick());
+                if (stats != null) stats.recordFrame(rendered - frameTimer.getStartNanos());
+            }
+        }
+    }
+
+    /**
+     * Draws the current state like GameCanvas does (same background, same clear rule),
+     * into the off-screen image.
+     */
+    private static void render(GameWorld world, BufferedImage frame) {
+        world.publishSnapshot(System.nanoTime(), 0);
+        Graphics2D g = frame.createGraphics();
+        try {
+            if (!world.coversFrame()) {
+                g.setColor(GamePanel.BACKGROUND_COLOR);
+                g.fillRect(0, 0, frame.getWidth(), frame.getHeight());
+            }
+            world.render(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Totals and worst cases for the measured phase.
+     */
+    private static final class Stats {
+        private final long startNanos = System.nanoTime();
+        private long ticks, tickNanos, maxTickNanos;
+        private long frames, frameNanos, maxFrameNanos;
+
+        void recordTick(long nanos) {
+            ticks++;
+            tickNanos += nanos;
+            maxTickNanos = Math.max(maxTickNanos, nanos);
+        }
+
+        void recordFrame(long nanos) {
+            frames++;
+            frameNanos += nanos;
+            maxFrameNanos = Math.max(maxFrameNanos, nanos);
+        }
+
+        void print(int npcCount) {
+            double seconds = (System.nanoTime() - startNanos) / 1e9;
+            System.out.printf("%,d ticks with %,d NPCs in %.2fs: %,.0f ticks/s, tick avg %.3fms, max %.3fms%n",
+                    ticks, npcCount, seconds, ticks / seconds,
+                    tickNanos / 1e6 / Math.max(1, ticks), maxTickNanos / 1e6);
+            if (frames > 0) {
+                System.out.printf("%,d frames: render avg %.3fms, max %.3fms (%,.0f fps render-only)%n",
+                        frames, frameNanos / 1e6 / frames, maxFrameNanos / 1e6, frames / (frameNanos / 1e9));
+            }
+        }
+    }
+}
@@ -1,9 +1,23 @@
 package com.game;
 
+import com.game.constants.GameConfig;
+import com.game.profiling.FlightRecording;
 import com.game.window.GameInitializer;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        // -Dgame.jfr=game.jfr → JFR recording from the very start (asset loading included)
+        if (GameConfig.JFR_PATH != null) {
+            FlightRecording.start(Path.of(GameConfig.JFR_PATH));
+        }
+        // --headless [options] → no window, see HeadlessRunner
+        if (args.length > 0 && args[0].equals("--headless")) {
+            HeadlessRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         new GameInitializer();
     }
 }
@@ -1,4 +1,68 @@
 package com.game.asset_helper;
 
-public class Animation {
+import java.util.Arrays;
+
+/**
+ * One animation clip: a run of consecutive atlas sprites with a display time per frame.
+ * Immutable, so every entity playing the clip shares the same instance.
+ */
+public final class Animation {
+
+    private final String name;
+    private final int firstSpriteId;
+    private final float[] frameDurations; // Seconds
+    private final boolean looping;
+
+    public Animation(String name, int firstSpriteId, float[] frameDurations, boolean looping) {
+        if (frameDurations.length == 0) {
+            throw new IllegalArgumentException("Animation " + name + " has no frames");
+        }
+        this.name = name;
+        this.firstSpriteId = firstSpriteId;
+        this.frameDurations = frameDurations.clone();
+        this.looping = looping;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getFrameCount() {
+        return frameDurations.length;
+    }
+
+    /**
+     * Returns atlas sprite id of a frame.
+     */
+    public int getSpriteId(int frame) {
+        return firstSpriteId + frame;
+    }
+
+    /**
+     * Returns how long a frame is shown, in seconds.
+     */
+    public float getFrameDuration(int frame) {
+        return frameDurations[frame];
+    }
+
+    /**
+     * Returns length of one cycle, in seconds.
+     */
+    public float getDuration() {
+        float total = 0;
+        for (float duration : frameDurations) total += duration;
+        return total;
+    }
+
+    /**
+     * Returns false for clips that play once and hold their last frame.
+     */
+    public boolean isLooping() {
+        return looping;
+    }
+
+    @Override
+    public String toString() {
+        return name + Arrays.toString(frameDurations);
+    }
 }
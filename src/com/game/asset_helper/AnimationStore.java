@@ -1,9 +1,147 @@
 package com.game.asset_helper;
 
-import java.util.EnumMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * All animation clips, addressed by int clip id (or looked up once by name).
+ * Clips come from descriptor files (resources/animations/*.anim) that say which sheet
+ * row holds which clip and how fast it plays; SpriteLoader slices them into the atlas.
+ */
 public class AnimationStore {
-    private final Map<ActionStore.PlayerAction, Animation> playerAnimations = new EnumMap<>(ActionStore.PlayerAction.class);
 
+    private Animation[] clips = new Animation[16];
+    private int count;
+    private final Map<String, Integer> idsByName = new HashMap<>();
+
+    /**
+     * Registers a clip.
+     *
+     * @return clip id
+     * @throws IllegalArgumentException if the name is taken
+     */
+    public int add(Animation clip) {
+        if (idsByName.containsKey(clip.getName())) {
+            throw new IllegalArgumentException("Duplicate animation " + clip.getName());
+        }
+        if (count == clips.length) {
+            clips = Arrays.copyOf(clips, count * 2);
+        }
+        idsByName.put(clip.getName(), count);
+        clips[count] = clip;
+        return count++;
+    }
+
+    public Animation get(int clipId) {
+        return clips[clipId];
+    }
+
+    /**
+     * Returns id of a named clip, or -1 if there is none.
+     */
+    public int getClipId(String name) {
+        return idsByName.getOrDefault(name, -1);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * One clip line of a descriptor, before slicing.
+     */
+    public static final class ClipDefinition {
+        public final String name;
+        public final int row;
+        public final int frameWidth, frameHeight;
+        public final float[] frameDurations; // Seconds, one per frame
+        public final boolean looping;
+
+        ClipDefinition(String name, int row, int frameWidth, int frameHeight, float[] frameDurations,
+                       boolean looping) {
+            this.name = name;
+            this.row = row;
+            this.frameWidth = frameWidth;
+            this.frameHeight = frameHeight;
+            this.frameDurations = frameDurations;
+            this.looping = looping;
+        }
+    }
+
+    /**
+     * Parses a descriptor from the classpath. See resources/animations/player.anim for the format.
+     *
+     * @throws IOException if the resource is missing or malformed
+     */
+    public static List<ClipDefinition> readDescriptor(String resourcePath) throws IOException {
+        InputStream inputStream = AnimationStore.class.getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            throw new IOException("File not found: " + resourcePath);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<ClipDefinition> definitions = new ArrayList<>();
+            int frameWidth = 0, frameHeight = 0;
+            String line;
+            for (int lineNumber = 1; (line = reader.readLine()) != null; lineNumber++) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] tokens = line.split("\\s+");
+                try {
+                    if (tokens[0].equals("frame")) {
+                        frameWidth = Integer.parseInt(tokens[1]);
+                        frameHeight = Integer.parseInt(tokens[2]);
+                    } else {
+                        if (frameWidth <= 0 || frameHeight <= 0) {
+                            throw new IOException(resourcePath + ":" + lineNumber + ": clip before frame size");
+                        }
+                        definitions.add(parseClip(tokens, frameWidth, frameHeight));
+                    }
+                } catch (RuntimeException e) {
+                    throw new IOException(resourcePath + ":" + lineNumber + ": bad line: " + line, e);
+                }
+            }
+            return definitions;
+        }
+    }
+
+    /**
+     * Parses: name row frames (fps | ms=t1,t2,...) [once]
+     */
+    private static ClipDefinition parseClip(String[] tokens, int frameWidth, int frameHeight) {
+        if (tokens.length < 4 || tokens.length > 5 || (tokens.length == 5 && !tokens[4].equals("once"))) {
+            throw new IllegalArgumentException("expected: name row frames fps|ms=... [once]");
+        }
+        int row = Integer.parseInt(tokens[1]);
+        int frameCount = Integer.parseInt(tokens[2]);
+        if (row < 0 || frameCount <= 0) {
+            throw new IllegalArgumentException("row must be >= 0 and frames > 0");
+        }
+
+        float[] durations = new float[frameCount];
+        if (tokens[3].startsWith("ms=")) {
+            String[] times = tokens[3].substring(3).split(",");
+            if (times.length != frameCount) {
+                throw new IllegalArgumentException(frameCount + " frames but " + times.length + " times");
+            }
+            for (int frame = 0; frame < frameCount; frame++) {
+                durations[frame] = Float.parseFloat(times[frame]) / 1000f;
+            }
+        } else {
+            Arrays.fill(durations, 1f / Float.parseFloat(tokens[3]));
+        }
+        for (float duration : durations) {
+            if (!(duration > 0) || Float.isInfinite(duration)) {
+                throw new IllegalArgumentException("frame times must be positive");
+            }
+        }
+        return new ClipDefinition(tokens[0], row, frameWidth, frameHeight, durations, tokens.length == 4);
+    }
 }
@@ -0,0 +1,50 @@
+package com.game.asset_helper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Reference to an asset that an AssetManager is loading in the background.
+ * Poll isDone() from the game loop (never blocks), or get() where waiting is fine.
+ */
+public final class AssetHandle<T> {
+
+    private final String name;
+    final CompletableFuture<T> future;
+
+    AssetHandle(String name, CompletableFuture<T> future) {
+        this.name = name;
+        this.future = future;
+    }
+
+    /**
+     * Returns true once the asset loaded or failed.
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Returns the asset, waiting for it if needed.
+     *
+     * @throws RuntimeException if it failed to load
+     */
+    public T get() {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Failed to load asset " + name + ": " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Returns the asset if loaded, otherwise fallback. Never blocks.
+     */
+    public T getNow(T fallback) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : fallback;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,121 @@
+package com.game.asset_helper;
+
+import com.game.profiling.SpriteSheetLoadEvent;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Loads assets concurrently on a small pool of daemon threads.
+ * Every load returns an AssetHandle at once; assets that depend on others
+ * (an atlas on its sheets) are chained with combine() instead of blocking a loader thread.
+ * Images are read from the classpath and shared: asking for the same path twice
+ * returns the same handle.
+ */
+public class AssetManager {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, AssetHandle<BufferedImage>> images = new ConcurrentHashMap<>();
+    // Progress for the loading screen
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    public AssetManager(int threads) {
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-loader-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs a loader in the background.
+     */
+    public <T> AssetHandle<T> load(String name, Callable<T> loader) {
+        return track(name, CompletableFuture.supplyAsync(() -> {
+            try {
+                return loader.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor));
+    }
+
+    /**
+     * Decodes a classpath image (e.g. "/img/map/Env.png") in the background.
+     */
+    public AssetHandle<BufferedImage> loadImage(String path) {
+        return images.computeIfAbsent(path, key -> load(key, () -> readImage(key)));
+    }
+
+    /**
+     * Builds an asset from two others once both are loaded, on a loader thread.
+     * Fails if either input fails.
+     */
+    public <A, B, R> AssetHandle<R> combine(String name, AssetHandle<A> first, AssetHandle<B> second,
+                                            BiFunction<A, B, R> builder) {
+        return track(name, first.future.thenCombineAsync(second.future, builder, executor));
+    }
+
+    /**
+     * Returns how many requested assets have finished (loaded or failed), 0..1.
+     */
+    public float getProgress() {
+        int total = requested.get();
+        return total == 0 ? 1f : completed.get() / (float) total;
+    }
+
+    /**
+     * Stops the loader threads; loads still queued are abandoned.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> AssetHandle<T> track(String name, CompletableFuture<T> future) {
+        requested.incrementAndGet();
+        future.whenComplete((asset, error) -> completed.incrementAndGet());
+        return new AssetHandle<>(name, future);
+    }
+
+    /**
+     * Reads and decodes an image from the classpath on the calling thread.
+     *
+     * @throws IOException if it is missing or not an image
+     */
+    public static BufferedImage readImage(String path) throws IOException {
+        SpriteSheetLoadEvent event = new SpriteSheetLoadEvent();
+        event.begin();
+        BufferedImage image;
+        try (InputStream inputStream = AssetManager.class.getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IOException("Resource not found: " + path);
+            }
+            image = ImageIO.read(inputStream);
+        }
+        if (image == null) {
+            throw new IOException("Not a supported image: " + path);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.width = image.getWidth();
+            event.height = image.getHeight();
+            event.commit();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,32 @@
+package com.game.asset_helper;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Helpers for creating images Java2D can keep in accelerated memory.
+ */
+public class ImageUtils {
+
+    /**
+     * Creates a translucent image in the screen's native format so blits stay accelerated.
+     * Falls back to a plain ARGB image when no display is available.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height) {
+        return createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Same, with the given Transparency; OPAQUE images blit as plain copies.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                    ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, transparency);
+    }
+}
@@ -0,0 +1,158 @@
+package com.game.asset_helper;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Packs pre-scaled copies of sprite sheet regions into one compatible image.
+ * Sprites are addressed by int id, drawn 1:1 with no scaling at draw time.
+ * <p>
+ * Usage: add() every region, then build() once before drawing.
+ */
+public class SpriteAtlas {
+
+    private final int atlasWidth;
+    // Per-sprite data, indexed by sprite id
+    private int[] srcX = new int[64], srcY = new int[64];
+    private int[] widths = new int[64], heights = new int[64];
+    private BufferedImage[] pendingSheets = new BufferedImage[64];
+    private int[] pendingX = new int[64], pendingY = new int[64], pendingScale = new int[64];
+    private int count;
+    // Shelf packer cursor
+    private int cursorX, cursorY, shelfHeight;
+    // Packed result
+    private BufferedImage image;
+
+    public SpriteAtlas(int atlasWidth) {
+        this.atlasWidth = atlasWidth;
+    }
+
+    /**
+     * Reserves space for a region of a sheet scaled by an integer factor.
+     *
+     * @return sprite id used by draw()
+     */
+    public int add(BufferedImage sheet, int x, int y, int width, int height, int scale) {
+        if (image != null) {
+            throw new IllegalStateException("Atlas already built");
+        }
+        if (scale < 1) {
+            throw new IllegalArgumentException("Scale must be positive: " + scale);
+        }
+        int scaledWidth = width * scale;
+        int scaledHeight = height * scale;
+        if (scaledWidth > atlasWidth) {
+            throw new IllegalArgumentException("Sprite wider than atlas: " + scaledWidth);
+        }
+
+        if (cursorX + scaledWidth > atlasWidth) { // Start a new shelf
+            cursorX = 0;
+            cursorY += shelfHeight;
+            shelfHeight = 0;
+        }
+        ensureCapacity(count + 1);
+
+        srcX[count] = cursorX;
+        srcY[count] = cursorY;
+        widths[count] = scaledWidth;
+        heights[count] = scaledHeight;
+        pendingSheets[count] = sheet;
+        pendingX[count] = x;
+        pendingY[count] = y;
+        pendingScale[count] = scale;
+
+        cursorX += scaledWidth;
+        shelfHeight = Math.max(shelfHeight, scaledHeight);
+        return count++;
+    }
+
+    /**
+     * Copies every reserved region into the atlas image (nearest-neighbour scaling).
+     */
+    public void build() {
+        image = ImageUtils.createCompatibleImage(atlasWidth, Math.max(1, cursorY + shelfHeight));
+
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            for (int id = 0; id < count; id++) {
+                int scale = pendingScale[id];
+                g2.drawImage(pendingSheets[id],
+                        srcX[id], srcY[id], srcX[id] + widths[id], srcY[id] + heights[id],
+                        pendingX[id], pendingY[id],
+                        pendingX[id] + widths[id] / scale, pendingY[id] + heights[id] / scale,
+                        null);
+            }
+        } finally {
+            g2.dispose();
+        }
+
+        srcX = Arrays.copyOf(srcX, count);
+        srcY = Arrays.copyOf(srcY, count);
+        widths = Arrays.copyOf(widths, count);
+        heights = Arrays.copyOf(heights, count);
+        pendingSheets = null; // Let the source sheets be collected
+        pendingX = null;
+        pendingY = null;
+        pendingScale = null;
+    }
+
+    /**
+     * Draws sprite with its top-left corner at (x, y).
+     */
+    public void draw(Graphics g, int id, int x, int y) {
+        int sx = srcX[id];
+        int sy = srcY[id];
+        int w = widths[id];
+        int h = heights[id];
+        g.drawImage(image, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+    }
+
+    /**
+     * Returns left edge of the sprite inside the atlas image.
+     */
+    public int getSourceX(int id) {
+        return srcX[id];
+    }
+
+    /**
+     * Returns top edge of the sprite inside the atlas image.
+     */
+    public int getSourceY(int id) {
+        return srcY[id];
+    }
+
+    public int getWidth(int id) {
+        return widths[id];
+    }
+
+    public int getHeight(int id) {
+        return heights[id];
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the packed atlas image.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= srcX.length) return;
+        int newLength = Math.max(capacity, srcX.length * 2);
+        srcX = Arrays.copyOf(srcX, newLength);
+        srcY = Arrays.copyOf(srcY, newLength);
+        widths = Arrays.copyOf(widths, newLength);
+        heights = Arrays.copyOf(heights, newLength);
+        pendingSheets = Arrays.copyOf(pendingSheets, newLength);
+        pendingX = Arrays.copyOf(pendingX, newLength);
+        pendingY = Arrays.copyOf(pendingY, newLength);
+        pendingScale = Arrays.copyOf(pendingScale, newLength);
+    }
+}
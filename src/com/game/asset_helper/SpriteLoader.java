@@ -1,121 +1,187 @@
 package com.game.asset_helper;
 
-import javax.imageio.ImageIO;
+import com.game.profiling.SpriteSliceEvent;
+
+import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.List;
 
-import static com.game.asset_helper.ActionStore.PlayerAction;
+import static com.game.constants.GameConstant.SPRITE_SCALE;
 
 /**
  * Loads and slices sprite sheets for player animations and map tiles.
- * Provides access to animation frames and individual map sprites.
+ * Every frame is copied into one SpriteAtlas, pre-scaled to render size,
+ * and addressed by int sprite id. Which rows of the player sheet hold which
+ * animation comes from its descriptor; the clips end up in an AnimationStore.
+ * Sheets are classpath resources; load(AssetManager) decodes them in parallel.
  */
 public class SpriteLoader {
 
     // Paths and dimensions
-    private static final String BASE_PATH = "resources/img";
+    private static final String BASE_PATH = "/img";
     private static final String PLAYER_IMG_PATH = "/player/Player";
     private static final String ENV_IMG_PATH = "/map/Env";
     private static final String IMG_EXTENSION = ".png";
+    private static final String PLAYER_ANIMATIONS = "/animations/player.anim";
 
-    private static final int FRAME_WIDTH = 32, FRAME_HEIGHT = 32;
     private static final int MAP_FRAME_WIDTH = 16, MAP_FRAME_HEIGHT = 16;
+    private static final int MAP_TILE_COUNT = 234;
+    private static final int ATLAS_WIDTH = 1024;
 
     // Loaded sprite data
-    public final Map<PlayerAction, BufferedImage[]> playerSprites =
-            new EnumMap<>(PlayerAction.class);
-    public final BufferedImage[] map = new BufferedImage[234];
+    private final SpriteAtlas atlas = new SpriteAtlas(ATLAS_WIDTH);
+    private final AnimationStore animations = new AnimationStore();
+    private int mapSpriteBase;
+    private int mapSpriteCount;
 
     /**
-     * Loads all player animations and map tiles from sprite sheets.
+     * Loads all player animations and map tiles from sprite sheets, on the calling thread.
      */
     public SpriteLoader() {
-        loadPlayerSprite();
-        loadMapSprite();
+        this(readImage(BASE_PATH + PLAYER_IMG_PATH + IMG_EXTENSION),
+                readImage(BASE_PATH + ENV_IMG_PATH + IMG_EXTENSION));
+    }
+
+    /**
+     * Slices already decoded sheets and builds the atlas.
+     */
+    public SpriteLoader(BufferedImage playerSheet, BufferedImage envSheet) {
+        loadPlayerSprite(playerSheet);
+        loadMapSprite(envSheet);
+
+        SpriteSliceEvent event = new SpriteSliceEvent();
+        event.begin();
+        atlas.build();
+        commit(event, "atlas", atlas.size());
     }
 
     /**
-     * Slices player sprite sheet into animation arrays by row.
+     * Decodes both sheets concurrently, then builds the atlas on a loader thread.
      */
-    private void loadPlayerSprite() {
-        BufferedImage sheet = loadImage(BASE_PATH + PLAYER_IMG_PATH + IMG_EXTENSION);
+    public static AssetHandle<SpriteLoader> load(AssetManager assets) {
+        return assets.combine("sprites",
+                assets.loadImage(BASE_PATH + PLAYER_IMG_PATH + IMG_EXTENSION),
+                assets.loadImage(BASE_PATH + ENV_IMG_PATH + IMG_EXTENSION),
+                SpriteLoader::new);
+    }
 
-        for (PlayerAction action : PlayerAction.values()) {
-            playerSprites.put(action, slice(sheet,
-                    action.getFrameCount(), action.ordinal(),
-                    FRAME_WIDTH, FRAME_HEIGHT));
+    /**
+     * Slices every clip of the player descriptor out of its sheet row.
+     */
+    private void loadPlayerSprite(BufferedImage sheet) {
+        List<AnimationStore.ClipDefinition> clips;
+        try {
+            clips = AnimationStore.readDescriptor(PLAYER_ANIMATIONS);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load: " + PLAYER_ANIMATIONS, e);
         }
 
-        System.out.println("Loaded " + playerSprites.size() + " player animations");
+        for (AnimationStore.ClipDefinition clip : clips) {
+            if ((clip.row + 1) * clip.frameHeight > sheet.getHeight()
+                    || clip.frameDurations.length * clip.frameWidth > sheet.getWidth()) {
+                throw new RuntimeException("Animation " + clip.name + " lies outside " + PLAYER_IMG_PATH);
+            }
+            SpriteSliceEvent event = new SpriteSliceEvent();
+            event.begin();
+            int firstId = slice(sheet, clip.frameDurations.length, clip.row, clip.frameWidth, clip.frameHeight);
+            animations.add(new Animation(clip.name, firstId, clip.frameDurations, clip.looping));
+            commit(event, PLAYER_IMG_PATH + " " + clip.name, clip.frameDurations.length);
+        }
     }
 
     /**
-     * Extracts all map tiles from environment sprite sheet into flat array.
+     * Extracts all map tiles from environment sprite sheet in row-major order.
      */
-    private void loadMapSprite() {
-        BufferedImage sheet = loadImage(BASE_PATH + ENV_IMG_PATH + IMG_EXTENSION);
+    private void loadMapSprite(BufferedImage sheet) {
 
         int cols = sheet.getWidth() / MAP_FRAME_WIDTH;
         int rows = sheet.getHeight() / MAP_FRAME_HEIGHT;
 
-        int index = 0;
-        for (int row = 0; row < rows && index < map.length; row++) {
-            for (int col = 0; col < cols && index < map.length; col++) {
-                map[index++] = sheet.getSubimage(
+        SpriteSliceEvent event = new SpriteSliceEvent();
+        event.begin();
+        mapSpriteBase = atlas.size();
+        for (int row = 0; row < rows && mapSpriteCount < MAP_TILE_COUNT; row++) {
+            for (int col = 0; col < cols && mapSpriteCount < MAP_TILE_COUNT; col++) {
+                atlas.add(sheet,
                         col * MAP_FRAME_WIDTH,
                         row * MAP_FRAME_HEIGHT,
                         MAP_FRAME_WIDTH,
-                        MAP_FRAME_HEIGHT
-                );
+                        MAP_FRAME_HEIGHT,
+                        SPRITE_SCALE);
+                mapSpriteCount++;
             }
         }
+        commit(event, ENV_IMG_PATH, mapSpriteCount);
     }
 
     /**
-     * Loads image file as BufferedImage.
+     * Loads a classpath image on the calling thread.
      *
-     * @throws RuntimeException if file missing
+     * @throws RuntimeException if missing
      */
-    private BufferedImage loadImage(String path) {
+    private static BufferedImage readImage(String path) {
         try {
-            return ImageIO.read(new File(path));
+            return AssetManager.readImage(path);
         } catch (IOException e) {
             throw new RuntimeException("Failed to load: " + path, e);
         }
     }
 
     /**
-     * Slices horizontal animation strip from sprite sheet row.
+     * Finishes a flight recorder slice event (no-op when not recording).
      */
-    private BufferedImage[] slice(BufferedImage sheet, int frameCount, int row,
-                                  int frameWidth, int frameHeight) {
-        BufferedImage[] frames = new BufferedImage[frameCount];
+    private static void commit(SpriteSliceEvent event, String source, int sprites) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.sprites = sprites;
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds a horizontal animation strip from a sprite sheet row to the atlas.
+     *
+     * @return sprite id of the first frame; the rest follow consecutively
+     */
+    private int slice(BufferedImage sheet, int frameCount, int row,
+                      int frameWidth, int frameHeight) {
+        int firstId = atlas.size();
 
         for (int col = 0; col < frameCount; col++) {
-            frames[col] = sheet.getSubimage(
+            atlas.add(sheet,
                     col * frameWidth,
                     row * frameHeight,
                     frameWidth,
-                    frameHeight
-            );
+                    frameHeight,
+                    SPRITE_SCALE);
         }
-        return frames;
+        return firstId;
     }
 
     /**
-     * Returns animation frames for player action.
+     * Returns animation clips sliced from the sheets.
      */
-    public BufferedImage[] getPlayerSprite(PlayerAction action) {
-        return playerSprites.get(action);
+    public AnimationStore getAnimations() {
+        return animations;
     }
 
     /**
-     * Returns map tile by flat index.
+     * Returns sprite id of map tile by flat sheet index.
      */
-    public BufferedImage getMapSpriteByIndex(int index) {
-        return map[index];
+    public int getMapSpriteId(int index) {
+        return mapSpriteBase + index;
+    }
+
+    /**
+     * Draws sprite unscaled (already at render size) with top-left at (x, y).
+     */
+    public void draw(Graphics g, int spriteId, int x, int y) {
+        atlas.draw(g, spriteId, x, y);
+    }
+
+    public SpriteAtlas getAtlas() {
+        return atlas;
     }
 }
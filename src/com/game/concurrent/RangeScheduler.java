@@ -0,0 +1,94 @@
+package com.game.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a task over the index range [0, count) in batches on a ForkJoinPool.
+ * Only for work where each index writes nothing but its own slots and reads shared state
+ * that stays put during run(); the result is then identical to a serial run whatever
+ * the batch order. Used for entity updates (UpdateScheduler) and screen tiles (TileRasterizer).
+ */
+public class RangeScheduler {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Processes the indices in [from, to).
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run(int from, int to);
+    }
+
+    private final ForkJoinPool pool; // null = serial
+    private final int batchSize;
+
+    /**
+     * @param threads    worker count; 1 or less runs everything on the calling thread
+     * @param batchSize  indices per task; small enough to balance, big enough to amortize forking
+     * @param threadName worker name prefix
+     */
+    public RangeScheduler(int threads, int batchSize, String threadName) {
+        this.batchSize = Math.max(1, batchSize);
+        this.pool = threads <= 1 ? null : new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadName + "-" + THREAD_COUNTER.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Runs the task over every index and returns once all batches are done.
+     * Small counts run inline, since forking would cost more than it saves.
+     */
+    public void run(Task task, int count) {
+        if (pool == null || count <= batchSize) {
+            task.run(0, count);
+        } else {
+            pool.invoke(new Batch(task, 0, count, batchSize));
+        }
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Returns worker count, 1 when serial.
+     */
+    public int getParallelism() {
+        return pool == null ? 1 : pool.getParallelism();
+    }
+
+    public void shutdown() {
+        if (pool != null) pool.shutdownNow();
+    }
+
+    /**
+     * Splits its range in half until it is at most one batch, then runs it.
+     */
+    private static final class Batch extends RecursiveAction {
+        private final Task task;
+        private final int from, to, batchSize;
+
+        Batch(Task task, int from, int to, int batchSize) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                task.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Batch(task, from, middle, batchSize), new Batch(task, middle, to, batchSize));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.game.constants;
+
+/**
+ * Runtime options read once at startup from system properties.
+ * Example: java -Dgame.ups=120 -Dgame.fps=60 com.game.Main
+ */
+public class GameConfig {
+
+    // Game loop scheduling
+    public static final String LOOP_MODE = System.getProperty("game.loop", "fixed"); // fixed | variable
+    public static final int UPDATES_PER_SECOND = Integer.getInteger("game.ups", 60);
+    public static final int FRAMES_PER_SECOND = Integer.getInteger("game.fps", 60);  // 0 = uncapped
+
+    // Rendering backend
+    public static final String RENDERER = System.getProperty("game.renderer", "canvas"); // canvas | panel
+    public static final int BUFFER_COUNT = Integer.getInteger("game.buffers", 3);        // canvas only
+    public static final String SCALING = System.getProperty("game.scaling", "integer"); // integer | fit
+    public static final boolean FULLSCREEN = Boolean.getBoolean("game.fullscreen");       // Exclusive mode (F11)
+    public static final boolean RENDER_THREAD =
+            Boolean.parseBoolean(System.getProperty("game.renderThread", "true"));          // fixed loop only
+    public static final boolean DIRTY_RECTS = Boolean.getBoolean("game.dirtyRects"); // Redraw only what changed
+    public static final String RASTERIZER = System.getProperty("game.rasterizer", "java2d"); // java2d | cpu (ignores dirtyRects)
+    public static final int RASTER_THREADS =
+            Integer.getInteger("game.rasterThreads", Runtime.getRuntime().availableProcessors()); // cpu only
+
+    // Asset loading
+    public static final int ASSET_THREADS =
+            Integer.getInteger("game.assetThreads", Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    // World streaming
+    public static final int CHUNK_BUDGET = Integer.getInteger("game.chunkBudget", 256);      // Max loaded chunks
+    public static final int CHUNK_LOADER_THREADS = Integer.getInteger("game.chunkThreads", 2);
+
+    // Entities
+    public static final int NPC_COUNT = Integer.getInteger("game.npcs", 0);
+    public static final long WORLD_SEED = Long.getLong("game.seed", 1L); // NPC spawn positions
+    public static final boolean SERIAL_UPDATE = Boolean.getBoolean("game.serialUpdate"); // Debugging
+    public static final int UPDATE_THREADS = SERIAL_UPDATE ? 1
+            : Integer.getInteger("game.updateThreads", Runtime.getRuntime().availableProcessors());
+
+    // Diagnostics
+    public static final boolean OVERLAY = Boolean.getBoolean("game.overlay"); // Performance overlay at startup (F3)
+    public static final boolean LOG_STATS = Boolean.getBoolean("game.logStats"); // FPS/UPS line on stdout every second
+    public static final String JFR_PATH = System.getProperty("game.jfr"); // Flight recording file, null = off
+
+    // Input recording
+    public static final String RECORD_PATH = System.getProperty("game.record"); // null = off, fixed loop only
+}
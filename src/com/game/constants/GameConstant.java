@@ -9,6 +9,9 @@ public class GameConstant {
     public static final String GAME_TITLE = "Top Down Adventure RPG";
     public static final String GAME_VERSION = "1.0";
 
+    // Source art is drawn at 16px per tile, rendered at 2x
+    public static final int SPRITE_SCALE = 2;
+
     // Tile system (32x32 tiles, 25x15 map = 800x480 window)
     public static final int TILE_WIDTH = 32;
     public static final int TILE_HEIGHT = 32;
@@ -0,0 +1,99 @@
+package com.game.entity;
+
+import com.game.asset_helper.Animation;
+import com.game.asset_helper.AnimationStore;
+import com.game.asset_helper.SpriteLoader;
+
+import static com.game.asset_helper.ActionStore.PlayerAction;
+
+/**
+ * Advances every entity's animation frame in one pass and resolves its atlas sprite id.
+ * Clips are flattened into primitive tables at construction (frame times, first sprite,
+ * frame count, looping), so the per-entity work is a few array reads and no calls.
+ * Entity actions (PlayerAction ordinals) map to clips of the same name.
+ */
+public class AnimationSystem {
+
+    private final EntityStore entities;
+    // Indexed by action ordinal
+    private final int[] firstSprite;
+    private final int[] frameCount;
+    private final int[] frameOffset; // Where the action's frames start in frameDuration
+    private final boolean[] looping;
+    // Indexed by frameOffset[action] + frame
+    private final float[] frameDuration;
+
+    public AnimationSystem(EntityStore entities, SpriteLoader spriteLoader) {
+        this.entities = entities;
+
+        AnimationStore clips = spriteLoader.getAnimations();
+        PlayerAction[] actions = PlayerAction.values();
+        firstSprite = new int[actions.length];
+        frameCount = new int[actions.length];
+        frameOffset = new int[actions.length];
+        looping = new boolean[actions.length];
+
+        Animation[] actionClips = new Animation[actions.length];
+        int totalFrames = 0;
+        for (PlayerAction action : actions) {
+            int clipId = clips.getClipId(action.name());
+            if (clipId < 0) {
+                throw new IllegalStateException("No animation clip for " + action);
+            }
+            Animation clip = clips.get(clipId);
+            actionClips[action.ordinal()] = clip;
+            totalFrames += clip.getFrameCount();
+        }
+
+        frameDuration = new float[totalFrames];
+        int offset = 0;
+        for (int action = 0; action < actions.length; action++) {
+            Animation clip = actionClips[action];
+            firstSprite[action] = clip.getSpriteId(0);
+            frameCount[action] = clip.getFrameCount();
+            frameOffset[action] = offset;
+            looping[action] = clip.isLooping();
+            for (int frame = 0; frame < clip.getFrameCount(); frame++) {
+                frameDuration[offset++] = clip.getFrameDuration(frame);
+            }
+        }
+    }
+
+    public void update(float deltaTime) {
+        update(deltaTime, 0, entities.size());
+    }
+
+    /**
+     * Updates entities in [from, to).
+     * Looping clips wrap to frame 0, others hold their last frame;
+     * dying entities hold the last frame and become FINISHED.
+     */
+    public void update(float deltaTime, int from, int to) {
+        EntityStore e = entities;
+        for (int id = from; id < to; id++) {
+            int flags = e.flags[id];
+            if ((flags & EntityStore.FLAG_FINISHED) != 0) continue;
+
+            int action = e.action[id];
+            int count = frameCount[action];
+            int frame = Math.min(e.frame[id], count - 1);
+            float timer = e.animTimer[id] + deltaTime;
+            if (timer >= frameDuration[frameOffset[action] + frame]) {
+                frame++;
+                if (frame >= count) {
+                    boolean dying = (flags & EntityStore.FLAG_DYING) != 0;
+                    if (dying || !looping[action]) {
+                        frame = count - 1;
+                        if (dying) e.flags[id] = flags | EntityStore.FLAG_FINISHED;
+                    } else {
+                        frame = 0;
+                    }
+                }
+                e.frame[id] = frame;
+                timer = 0f;
+            }
+            e.animTimer[id] = timer;
+            e.spriteId[id] = firstSprite[action] + frame;
+        }
+    }
+}
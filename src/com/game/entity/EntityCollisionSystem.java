@@ -0,0 +1,95 @@
+package com.game.entity;
+
+import com.game.world.TileCollider;
+
+/**
+ * Pushes apart overlapping hitboxes of colliding entities.
+ * Candidates come from the SpatialGrid, so each entity only tests its neighbours
+ * and the pass stays near-linear in entity count. Each pair is separated once,
+ * half each way along the axis of least overlap; pushes are swept against solid tiles
+ * and clamped to the world like MovementSystem.
+ */
+public class EntityCollisionSystem {
+
+    private static final int COLLIDING = EntityStore.FLAG_COLLIDES;
+    private static final int INACTIVE = EntityStore.FLAG_FINISHED;
+
+    private final EntityStore entities;
+    private final SpatialGrid grid;
+    private final TileCollider collider; // null = pushes ignore tiles
+    private final float worldWidth, worldHeight;
+    private int[] neighbours = new int[64]; // Query scratch, grown on demand
+
+    public EntityCollisionSystem(EntityStore entities, SpatialGrid grid, TileCollider collider,
+                                 float worldWidth, float worldHeight) {
+        this.entities = entities;
+        this.grid = grid;
+        this.collider = collider;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    /**
+     * Runs after movement and SpatialGrid.update().
+     */
+    public void update() {
+        EntityStore e = entities;
+        for (int id = 0, count = e.size(); id < count; id++) {
+            if ((e.flags[id] & (COLLIDING | INACTIVE)) != COLLIDING) continue;
+
+            float left = e.x[id] + e.hitX[id];
+            float top = e.y[id] + e.hitY[id];
+            float right = left + e.hitWidth[id];
+            float bottom = top + e.hitHeight[id];
+
+            int found = grid.queryAabb(left, top, right, bottom, neighbours);
+            if (found > neighbours.length) {
+                neighbours = new int[Integer.highestOneBit(found) << 1];
+                found = grid.queryAabb(left, top, right, bottom, neighbours);
+            }
+            for (int i = 0; i < found; i++) {
+                int other = neighbours[i];
+                // Lower id handles the pair
+                if (other <= id || (e.flags[other] & (COLLIDING | INACTIVE)) != COLLIDING) continue;
+                separate(id, other);
+            }
+        }
+    }
+
+    private void separate(int a, int b) {
+        EntityStore e = entities;
+        float leftA = e.x[a] + e.hitX[a], topA = e.y[a] + e.hitY[a];
+        float leftB = e.x[b] + e.hitX[b], topB = e.y[b] + e.hitY[b];
+        float overlapX = Math.min(leftA + e.hitWidth[a], leftB + e.hitWidth[b]) - Math.max(leftA, leftB);
+        float overlapY = Math.min(topA + e.hitHeight[a], topB + e.hitHeight[b]) - Math.max(topA, topB);
+        if (overlapX <= 0 || overlapY <= 0) return; // An earlier push already separated them
+
+        if (overlapX < overlapY) {
+            float push = leftA + e.hitWidth[a] / 2 < leftB + e.hitWidth[b] / 2 ? -overlapX / 2 : overlapX / 2;
+            pushX(a, push);
+            pushX(b, -push);
+        } else {
+            float push = topA + e.hitHeight[a] / 2 < topB + e.hitHeight[b] / 2 ? -overlapY / 2 : overlapY / 2;
+            pushY(a, push);
+            pushY(b, -push);
+        }
+        grid.update(a);
+        grid.update(b);
+    }
+
+    private void pushX(int id, float dx) {
+        EntityStore e = entities;
+        if (collider != null) {
+            dx = collider.sweepX(e.x[id] + e.hitX[id], e.y[id] + e.hitY[id], e.hitWidth[id], e.hitHeight[id], dx);
+        }
+        e.x[id] = Math.max(0, Math.min(worldWidth - e.width[id], e.x[id] + dx));
+    }
+
+    private void pushY(int id, float dy) {
+        EntityStore e = entities;
+        if (collider != null) {
+            dy = collider.sweepY(e.x[id] + e.hitX[id], e.y[id] + e.hitY[id], e.hitWidth[id], e.hitHeight[id], dy);
+        }
+        e.y[id] = Math.max(0, Math.min(worldHeight - e.height[id], e.y[id] + dy));
+    }
+}
@@ -0,0 +1,96 @@
+package com.game.entity;
+
+import com.game.asset_helper.SpriteAtlas;
+import com.game.render.DirtyRegion;
+import com.game.render.RenderQueue;
+
+import java.util.Arrays;
+
+/**
+ * Submits every visible entity of a snapshot, interpolated between its last two positions,
+ * to a RenderQueue on the entity layer, depth-sorted by the bottom edge of its sprite
+ * (entities further down the screen are drawn over those behind them).
+ * Entities outside the view are skipped.
+ * <p>
+ * Given a DirtyRegion, it also remembers what each entity id drew last time and marks
+ * the old and new sprite rectangles of every entity that moved, changed frame, appeared
+ * or disappeared.
+ */
+public class EntityRenderer {
+
+    private final SpriteAtlas atlas;
+    // What each entity id drew last frame (dirty tracking only)
+    private int[] lastX = new int[0], lastY = new int[0], lastSprite = new int[0];
+    private boolean[] lastDrawn = new boolean[0];
+    private int trackedCount;
+
+    public EntityRenderer(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Positions are in world space; the queue must be flushed with Graphics translated to it.
+     */
+    public void submit(RenderQueue queue, EntitySnapshot e, float interpolation,
+                       int viewX, int viewY, int viewWidth, int viewHeight) {
+        submit(queue, e, interpolation, viewX, viewY, viewWidth, viewHeight, null);
+    }
+
+    /**
+     * Same as above, and marks changed entities in dirty (null = no tracking).
+     */
+    public void submit(RenderQueue queue, EntitySnapshot e, float interpolation,
+                       int viewX, int viewY, int viewWidth, int viewHeight, DirtyRegion dirty) {
+        if (dirty != null) ensureTracked(e.count);
+
+        for (int id = 0, count = e.count; id < count; id++) {
+            boolean drawn = false;
+            int drawX = 0, drawY = 0;
+            if ((e.flags[id] & EntityStore.FLAG_FINISHED) == 0) {
+                drawX = Math.round(e.prevX[id] + (e.x[id] - e.prevX[id]) * interpolation);
+                drawY = Math.round(e.prevY[id] + (e.y[id] - e.prevY[id]) * interpolation);
+                drawn = drawX + e.width[id] >= viewX && drawX <= viewX + viewWidth
+                        && drawY + e.height[id] >= viewY && drawY <= viewY + viewHeight;
+            }
+            if (drawn) {
+                queue.submit(RenderQueue.LAYER_ENTITIES, drawY + Math.round(e.height[id]),
+                        e.spriteId[id], drawX, drawY);
+            }
+            if (dirty != null) track(dirty, id, drawn, drawX, drawY, e.spriteId[id]);
+        }
+
+        if (dirty != null) {
+            for (int id = e.count; id < trackedCount; id++) track(dirty, id, false, 0, 0, 0); // Removed
+            trackedCount = e.count;
+        }
+    }
+
+    /**
+     * Marks the old and new rectangle of an entity if what it draws changed.
+     */
+    private void track(DirtyRegion dirty, int id, boolean drawn, int x, int y, int spriteId) {
+        boolean wasDrawn = lastDrawn[id];
+        if (drawn == wasDrawn && (!drawn || x == lastX[id] && y == lastY[id] && spriteId == lastSprite[id])) {
+            return;
+        }
+        if (wasDrawn) {
+            dirty.add(lastX[id], lastY[id], atlas.getWidth(lastSprite[id]), atlas.getHeight(lastSprite[id]));
+        }
+        if (drawn) {
+            dirty.add(x, y, atlas.getWidth(spriteId), atlas.getHeight(spriteId));
+        }
+        lastDrawn[id] = drawn;
+        lastX[id] = x;
+        lastY[id] = y;
+        lastSprite[id] = spriteId;
+    }
+
+    private void ensureTracked(int count) {
+        if (lastX.length >= count) return;
+        int capacity = Math.max(count, lastX.length * 2);
+        lastX = Arrays.copyOf(lastX, capacity);
+        lastY = Arrays.copyOf(lastY, capacity);
+        lastSprite = Arrays.copyOf(lastSprite, capacity);
+        lastDrawn = Arrays.copyOf(lastDrawn, capacity);
+    }
+}
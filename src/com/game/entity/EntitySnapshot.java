@@ -0,0 +1,49 @@
+package com.game.entity;
+
+import java.util.Arrays;
+
+/**
+ * Copy of everything EntityRenderer needs from an EntityStore at the end of a tick.
+ * The simulation captures into a snapshot it owns, then hands it over to the render
+ * thread; the renderer never reads the live store, so it never sees a half-updated entity.
+ * Arrays are reused between captures, so steady-state capturing does not allocate.
+ */
+public class EntitySnapshot {
+
+    int count;
+    float[] x = new float[0], y = new float[0];
+    float[] prevX = new float[0], prevY = new float[0];
+    float[] width = new float[0], height = new float[0];
+    int[] spriteId = new int[0];
+    int[] flags = new int[0];
+
+    /**
+     * Copies render state of every entity in the store.
+     */
+    public void capture(EntityStore entities) {
+        count = entities.size();
+        if (x.length < count) {
+            int capacity = Math.max(count, x.length * 2);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            prevX = Arrays.copyOf(prevX, capacity);
+            prevY = Arrays.copyOf(prevY, capacity);
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+            spriteId = Arrays.copyOf(spriteId, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        System.arraycopy(entities.x, 0, x, 0, count);
+        System.arraycopy(entities.y, 0, y, 0, count);
+        System.arraycopy(entities.prevX, 0, prevX, 0, count);
+        System.arraycopy(entities.prevY, 0, prevY, 0, count);
+        System.arraycopy(entities.width, 0, width, 0, count);
+        System.arraycopy(entities.height, 0, height, 0, count);
+        System.arraycopy(entities.spriteId, 0, spriteId, 0, count);
+        System.arraycopy(entities.flags, 0, flags, 0, count);
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -0,0 +1,204 @@
+package com.game.entity;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays storage for every entity in the world.
+ * An entity is just an int id indexing the parallel arrays below; systems
+ * (MovementSystem, AnimationSystem, EntityRenderer, ...) iterate the arrays
+ * in one pass instead of calling a method per entity object.
+ * <p>
+ * Arrays are package-private so systems in this package can loop over them directly;
+ * other code goes through the accessors.
+ */
+public class EntityStore {
+
+    // Flag bits
+    public static final int FLAG_COLLIDES = 1;     // Swept against solid tiles
+    public static final int FLAG_FACING_LEFT = 2;
+    public static final int FLAG_DYING = 4;        // Current animation plays once, then FINISHED
+    public static final int FLAG_FINISHED = 8;     // Dead animation done → not drawn
+    public static final int FLAG_NPC = 16;         // Driven by NpcSystem
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Transform (world pixels, sprite top-left)
+    float[] x, y;
+    float[] prevX, prevY; // Position before the last update (for interpolation)
+    float[] vx, vy;       // Pixels per second
+    float[] width, height; // Sprite size
+    // Collision box relative to sprite top-left
+    float[] hitX, hitY, hitWidth, hitHeight;
+    // Animation state
+    int[] action;      // PlayerAction ordinal (AnimationSystem picks the clip)
+    int[] frame;
+    float[] animTimer;
+    int[] spriteId;    // Resolved atlas sprite for the current frame
+    // Misc
+    int[] flags;
+    int[] rngState;    // Per-entity xorshift state (deterministic AI)
+    float[] aiTimer;   // Seconds until NpcSystem picks a new direction
+
+    private int count;
+
+    public EntityStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds an entity with its hitbox covering the whole sprite.
+     *
+     * @return entity id
+     */
+    public int create(float x, float y, float width, float height, int flags) {
+        if (count == this.x.length) {
+            allocate(count * 2);
+        }
+        int id = count++;
+        this.x[id] = this.prevX[id] = x;
+        this.y[id] = this.prevY[id] = y;
+        this.vx[id] = this.vy[id] = 0;
+        this.width[id] = width;
+        this.height[id] = height;
+        this.hitX[id] = this.hitY[id] = 0;
+        this.hitWidth[id] = width;
+        this.hitHeight[id] = height;
+        this.action[id] = 0;
+        this.frame[id] = 0;
+        this.animTimer[id] = 0;
+        this.spriteId[id] = 0;
+        this.flags[id] = flags;
+        this.rngState[id] = 0x9E3779B9 * (id + 1) | 1; // Never 0: xorshift would stick
+        this.aiTimer[id] = 0;
+        return id;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void setHitbox(int id, float offsetX, float offsetY, float hitboxWidth, float hitboxHeight) {
+        hitX[id] = offsetX;
+        hitY[id] = offsetY;
+        hitWidth[id] = hitboxWidth;
+        hitHeight[id] = hitboxHeight;
+    }
+
+    /**
+     * Switches animation action, restarting it only if it changed.
+     */
+    public void setAction(int id, int newAction) {
+        if (action[id] == newAction) return;
+        action[id] = newAction;
+        frame[id] = 0;
+        animTimer[id] = 0;
+    }
+
+    /**
+     * Moves an entity without interpolating from its old position.
+     */
+    public void setPosition(int id, float newX, float newY) {
+        x[id] = prevX[id] = newX;
+        y[id] = prevY[id] = newY;
+    }
+
+    public void setVelocity(int id, float velocityX, float velocityY) {
+        vx[id] = velocityX;
+        vy[id] = velocityY;
+    }
+
+    public void setFlag(int id, int flag, boolean on) {
+        flags[id] = on ? flags[id] | flag : flags[id] & ~flag;
+    }
+
+    public boolean hasFlag(int id, int flag) {
+        return (flags[id] & flag) != 0;
+    }
+
+    public float getX(int id) {
+        return x[id];
+    }
+
+    public float getY(int id) {
+        return y[id];
+    }
+
+    public float getVelocityX(int id) {
+        return vx[id];
+    }
+
+    public float getVelocityY(int id) {
+        return vy[id];
+    }
+
+    public float getWidth(int id) {
+        return width[id];
+    }
+
+    public float getHeight(int id) {
+        return height[id];
+    }
+
+    public int getAction(int id) {
+        return action[id];
+    }
+
+    public int getFrame(int id) {
+        return frame[id];
+    }
+
+    public int getSpriteId(int id) {
+        return spriteId[id];
+    }
+
+    /**
+     * Returns a hash of all simulation state, for checking that two runs stayed identical.
+     * Floats are hashed by bit pattern, so any drift at all changes the result.
+     */
+    public long hashState() {
+        long hash = count;
+        for (int id = 0; id < count; id++) {
+            hash = hash * 31 + Float.floatToRawIntBits(x[id]);
+            hash = hash * 31 + Float.floatToRawIntBits(y[id]);
+            hash = hash * 31 + Float.floatToRawIntBits(vx[id]);
+            hash = hash * 31 + Float.floatToRawIntBits(vy[id]);
+            hash = hash * 31 + Float.floatToRawIntBits(animTimer[id]);
+            hash = hash * 31 + Float.floatToRawIntBits(aiTimer[id]);
+            hash = hash * 31 + action[id];
+            hash = hash * 31 + frame[id];
+            hash = hash * 31 + flags[id];
+            hash = hash * 31 + rngState[id];
+        }
+        return hash;
+    }
+
+    private void allocate(int capacity) {
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        prevX = grow(prevX, capacity);
+        prevY = grow(prevY, capacity);
+        vx = grow(vx, capacity);
+        vy = grow(vy, capacity);
+        width = grow(width, capacity);
+        height = grow(height, capacity);
+        hitX = grow(hitX, capacity);
+        hitY = grow(hitY, capacity);
+        hitWidth = grow(hitWidth, capacity);
+        hitHeight = grow(hitHeight, capacity);
+        action = grow(action, capacity);
+        frame = grow(frame, capacity);
+        animTimer = grow(animTimer, capacity);
+        spriteId = grow(spriteId, capacity);
+        flags = grow(flags, capacity);
+        rngState = grow(rngState, capacity);
+        aiTimer = grow(aiTimer, capacity);
+    }
+
+    private static float[] grow(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
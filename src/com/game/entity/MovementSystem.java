@@ -0,0 +1,51 @@
+package com.game.entity;
+
+import com.game.world.TileCollider;
+
+/**
+ * Integrates velocity into position for every entity, sweeping colliding
+ * entities against solid tiles and clamping all of them to the world.
+ */
+public class MovementSystem {
+
+    private final EntityStore entities;
+    private final TileCollider collider; // null = no tile collision
+    private final float worldWidth, worldHeight;
+
+    public MovementSystem(EntityStore entities, TileCollider collider, float worldWidth, float worldHeight) {
+        this.entities = entities;
+        this.collider = collider;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+    }
+
+    public void update(float deltaTime) {
+        update(deltaTime, 0, entities.size());
+    }
+
+    /**
+     * Updates entities in [from, to).
+     */
+    public void update(float deltaTime, int from, int to) {
+        EntityStore e = entities;
+        for (int id = from; id < to; id++) {
+            e.prevX[id] = e.x[id];
+            e.prevY[id] = e.y[id];
+
+            float dx = e.vx[id] * deltaTime;
+            float dy = e.vy[id] * deltaTime;
+            if (dx == 0 && dy == 0) continue;
+
+            // Resolve one axis at a time so entities slide along walls
+            if (collider != null && (e.flags[id] & EntityStore.FLAG_COLLIDES) != 0) {
+                float boxX = e.x[id] + e.hitX[id];
+                float boxY = e.y[id] + e.hitY[id];
+                dx = collider.sweepX(boxX, boxY, e.hitWidth[id], e.hitHeight[id], dx);
+                dy = collider.sweepY(boxX + dx, boxY, e.hitWidth[id], e.hitHeight[id], dy);
+            }
+
+            e.x[id] = Math.max(0, Math.min(worldWidth - e.width[id], e.x[id] + dx));
+            e.y[id] = Math.max(0, Math.min(worldHeight - e.height[id], e.y[id] + dy));
+        }
+    }
+}
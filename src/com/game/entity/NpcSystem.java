@@ -0,0 +1,78 @@
+package com.game.entity;
+
+import static com.game.asset_helper.ActionStore.PlayerAction;
+
+/**
+ * Wandering AI for entities flagged FLAG_NPC.
+ * Every few seconds each NPC picks a new direction (or stands still) from its own
+ * xorshift state, so the outcome depends only on the entity, never on update order.
+ */
+public class NpcSystem {
+
+    private static final float NPC_SPEED = 80f;
+    private static final float MIN_WANDER_TIME = 1f, MAX_WANDER_TIME = 3f;
+    private static final float DIAGONAL = (float) (1 / Math.sqrt(2));
+
+    private final EntityStore entities;
+
+    public NpcSystem(EntityStore entities) {
+        this.entities = entities;
+    }
+
+    public void update(float deltaTime) {
+        update(deltaTime, 0, entities.size());
+    }
+
+    /**
+     * Updates entities in [from, to).
+     */
+    public void update(float deltaTime, int from, int to) {
+        EntityStore e = entities;
+        for (int id = from; id < to; id++) {
+            if ((e.flags[id] & EntityStore.FLAG_NPC) == 0) continue;
+
+            float timer = e.aiTimer[id] - deltaTime;
+            if (timer <= 0) {
+                int direction = nextRandom(e, id) % 9; // 0-7 = compass, 8 = idle
+                timer = MIN_WANDER_TIME + (nextRandom(e, id) % 1000) / 1000f * (MAX_WANDER_TIME - MIN_WANDER_TIME);
+                steer(e, id, direction);
+            }
+            e.aiTimer[id] = timer;
+        }
+    }
+
+    private static void steer(EntityStore e, int id, int direction) {
+        int dirX = direction == 8 ? 0 : DIRECTION_X[direction];
+        int dirY = direction == 8 ? 0 : DIRECTION_Y[direction];
+        float speed = dirX != 0 && dirY != 0 ? NPC_SPEED * DIAGONAL : NPC_SPEED;
+        e.vx[id] = dirX * speed;
+        e.vy[id] = dirY * speed;
+
+        if (dirX < 0) e.flags[id] |= EntityStore.FLAG_FACING_LEFT;
+        else if (dirX > 0) e.flags[id] &= ~EntityStore.FLAG_FACING_LEFT;
+
+        PlayerAction action;
+        if (dirY > 0) action = PlayerAction.WALK_DOWN;
+        else if (dirY < 0) action = PlayerAction.WALK_UP;
+        else if (dirX < 0) action = PlayerAction.WALK_LEFT;
+        else if (dirX > 0) action = PlayerAction.WALK_RIGHT;
+        else action = (e.flags[id] & EntityStore.FLAG_FACING_LEFT) != 0
+                    ? PlayerAction.IDLE_LEFT : PlayerAction.IDLE_RIGHT;
+        e.setAction(id, action.ordinal());
+    }
+
+    /**
+     * Returns next non-negative value of the entity's xorshift32 sequence.
+     */
+    private static int nextRandom(EntityStore e, int id) {
+        int state = e.rngState[id];
+        state ^= state << 13;
+        state ^= state >>> 17;
+        state ^= state << 5;
+        e.rngState[id] = state;
+        return state & Integer.MAX_VALUE;
+    }
+
+    private static final int[] DIRECTION_X = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] DIRECTION_Y = {-1, -1, 0, 1, 1, 1, 0, -1};
+}
@@ -1,95 +1,76 @@
 package com.game.entity;
 
-import com.game.asset_helper.SpriteLoader;
-
-import java.awt.*;
-import java.awt.image.BufferedImage;
-
 import static com.game.asset_helper.ActionStore.PlayerAction;
-import static com.game.constants.GameConstant.GAME_HEIGHT;
-import static com.game.constants.GameConstant.GAME_WIDTH;
+import static com.game.constants.GameConstant.SPRITE_SCALE;
 
 /**
- * Player entity with sprite animation, smooth movement, and death states.
- * Handles keyboard input, diagonal speed normalization, and bounds checking.
+ * Player controller: turns keyboard input into velocity, facing and animation
+ * for its entity in the EntityStore. Movement, collision, animation and drawing
+ * are done for all entities by the systems in this package.
  */
-public class Player implements Character {
+public class Player {
+
+    // Collision box relative to sprite top-left (the feet, in world pixels), shared by NPCs
+    public static final float HITBOX_X = 20, HITBOX_Y = 40;
+    public static final float HITBOX_WIDTH = 24, HITBOX_HEIGHT = 18;
 
-    private final float width, height;
-    private final float scale = 2.0f;
     // Dependencies
-    private final SpriteLoader spriteLoader;
+    private final EntityStore entities;
+    private final int id;
     // Core properties
-    private float x, y;
     private float baseSpeed = 200f;
     // Input flags
     private boolean isLeft, isRight, isUp, isDown;
-    private boolean isMoving, isFacingLeft;
-    // Animation state
-    private PlayerAction playerAction = PlayerAction.IDLE_RIGHT;
-    private int animationIndex = 0;
-    private float animationTimer = 0f;
     // Game state
     private boolean isDead = false;
-    private boolean isFinallyDead = false;
-
-    public Player(float x, float y, float width, float height, SpriteLoader spriteLoader) {
-        this.x = x;
-        this.y = y;
-        this.width = width;
-        this.height = height;
-        this.spriteLoader = spriteLoader;
-    }
-
-    @Override
-    public void render(Graphics g) {
-        if (isFinallyDead) return;
 
-        BufferedImage[] frames = spriteLoader.getPlayerSprite(playerAction);
-        int safeIndex = Math.max(0, Math.min(animationIndex, frames.length - 1));
-        g.drawImage(frames[safeIndex], (int) x, (int) y,
-                (int) (width * scale), (int) (height * scale), null);
+    /**
+     * Registers the player entity. Width and height are sprite frame size before SPRITE_SCALE.
+     */
+    public Player(EntityStore entities, float x, float y, float width, float height) {
+        this.entities = entities;
+        this.id = entities.create(x, y, width * SPRITE_SCALE, height * SPRITE_SCALE, EntityStore.FLAG_COLLIDES);
+        entities.setHitbox(id, HITBOX_X, HITBOX_Y, HITBOX_WIDTH, HITBOX_HEIGHT);
+        entities.setAction(id, PlayerAction.IDLE_RIGHT.ordinal());
     }
 
-    @Override
+    /**
+     * Applies input to the entity. Runs before the movement and animation systems.
+     */
     public void update(float deltaTime) {
-        updatePlayerAction();
-
         if (isDead) {
-            animatePlayer(deltaTime);
+            entities.setFlag(id, EntityStore.FLAG_DYING, true);
+            entities.setAction(id, PlayerAction.DIE.ordinal());
+            entities.setVelocity(id, 0, 0);
             return;
         }
 
-        move(deltaTime);
-        animatePlayer(deltaTime);
+        updateVelocity();
+        updatePlayerAction();
     }
 
     /**
-     * Applies input-based movement with diagonal normalization.
+     * Sets velocity from input with diagonal normalization.
      */
-    private void move(float deltaTime) {
-        isMoving = false;
+    private void updateVelocity() {
         float speed = diagonalMovement() ? (float) (baseSpeed / Math.sqrt(2)) : baseSpeed;
+        float velocityX = 0, velocityY = 0;
 
         if (isLeft && !isRight) {
-            x -= speed * deltaTime;
-            isFacingLeft = true;
-            isMoving = true;
+            velocityX = -speed;
+            entities.setFlag(id, EntityStore.FLAG_FACING_LEFT, true);
         } else if (isRight && !isLeft) {
-            x += speed * deltaTime;
-            isFacingLeft = false;
-            isMoving = true;
+            velocityX = speed;
+            entities.setFlag(id, EntityStore.FLAG_FACING_LEFT, false);
         }
 
         if (isUp && !isDown) {
-            y -= speed * deltaTime;
-            isMoving = true;
+            velocityY = -speed;
         } else if (isDown && !isUp) {
-            y += speed * deltaTime;
-            isMoving = true;
+            velocityY = speed;
         }
 
-        keepInBounds();
+        entities.setVelocity(id, velocityX, velocityY);
     }
 
     /**
@@ -101,58 +82,46 @@ public class Player implements Character {
     }
 
     /**
-     * Sets animation action based on input or death state.
+     * Sets animation action based on input.
      */
     private void updatePlayerAction() {
-        if (isDead) {
-            changePlayerAction(PlayerAction.DIE);
-            return;
-        }
-
-        if (isDown) changePlayerAction(PlayerAction.WALK_DOWN);
-        else if (isUp) changePlayerAction(PlayerAction.WALK_UP);
-        else if (isLeft) changePlayerAction(PlayerAction.WALK_LEFT);
-        else if (isRight) changePlayerAction(PlayerAction.WALK_RIGHT);
-        else playerAction = isFacingLeft ? PlayerAction.IDLE_LEFT : PlayerAction.IDLE_RIGHT;
+        PlayerAction action;
+        if (isDown) action = PlayerAction.WALK_DOWN;
+        else if (isUp) action = PlayerAction.WALK_UP;
+        else if (isLeft) action = PlayerAction.WALK_LEFT;
+        else if (isRight) action = PlayerAction.WALK_RIGHT;
+        else action = entities.hasFlag(id, EntityStore.FLAG_FACING_LEFT)
+                    ? PlayerAction.IDLE_LEFT : PlayerAction.IDLE_RIGHT;
+        entities.setAction(id, action.ordinal());
     }
 
     /**
-     * Advances animation frame using delta time.
+     * Returns the player's entity id.
      */
-    private void animatePlayer(float deltaTime) {
-        animationTimer += deltaTime;
-        float frameDuration = 1f / playerAction.getFrameRate();
-
-        if (animationTimer >= frameDuration) {
-            animationIndex++;
+    public int getId() {
+        return id;
+    }
 
-            if (isDead && animationIndex >= playerAction.getFrameCount()) {
-                animationIndex = playerAction.getFrameCount() - 1;
-                isFinallyDead = true;
-            } else if (animationIndex >= playerAction.getFrameCount()) {
-                animationIndex = 0;
-            }
+    public float getX() {
+        return entities.getX(id);
+    }
 
-            animationTimer = 0f;
-        }
+    public float getY() {
+        return entities.getY(id);
     }
 
     /**
-     * Switches animation action and resets frame.
+     * Returns rendered width in world pixels.
      */
-    private void changePlayerAction(PlayerAction newAction) {
-        if (playerAction == newAction) return;
-        playerAction = newAction;
-        animationIndex = 0;
-        animationTimer = 0f;
+    public float getWidth() {
+        return entities.getWidth(id);
     }
 
     /**
-     * Clamps player to screen bounds.
+     * Returns rendered height in world pixels.
      */
-    private void keepInBounds() {
-        x = Math.max(0, Math.min(GAME_WIDTH - width * scale, x));
-        y = Math.max(0, Math.min(GAME_HEIGHT - height * scale, y));
+    public float getHeight() {
+        return entities.getHeight(id);
     }
 
     // Input handlers
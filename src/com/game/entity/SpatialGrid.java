@@ -0,0 +1,216 @@
+package com.game.entity;
+
+import java.util.Arrays;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Uniform grid index over the world with one cell per tile, for "which entities are near here?".
+ * Each entity is filed under the cell holding its hitbox centre; cells are intrusive
+ * doubly linked lists threaded through per-entity arrays, so moving an entity between
+ * cells is O(1) and neither updates nor queries allocate.
+ * <p>
+ * Queries widen their cell range by the largest hitbox half-extent seen, so boxes that
+ * straddle cells are still found, then test every candidate exactly.
+ */
+public class SpatialGrid {
+
+    private static final int NONE = -1;
+
+    /**
+     * Receives each entity matched by a query.
+     */
+    @FunctionalInterface
+    public interface EntityVisitor {
+        void visit(int id);
+    }
+
+    private final EntityStore entities;
+    private final int rows, cols;
+    private final int[] cellHead; // First entity in each cell, NONE if empty
+    // Per entity: links within its cell and the cell it is filed under (NONE = not indexed)
+    private int[] next = new int[0], prev = new int[0], cellOf = new int[0];
+    private int indexed; // Entities [0, indexed) have been inserted
+    private float maxHalfWidth, maxHalfHeight;
+
+    public SpatialGrid(EntityStore entities, float worldWidth, float worldHeight) {
+        this.entities = entities;
+        this.cols = Math.max(1, (int) Math.ceil(worldWidth / TILE_WIDTH));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / TILE_HEIGHT));
+        this.cellHead = new int[rows * cols];
+        Arrays.fill(cellHead, NONE);
+    }
+
+    /**
+     * Inserts new entities and refiles any whose hitbox centre crossed into another cell.
+     * Call once per update after movement; costs O(n) compares plus O(1) per moved entity.
+     */
+    public void update() {
+        int count = entities.size();
+        if (count > indexed) {
+            ensureCapacity(count);
+            for (int id = indexed; id < count; id++) {
+                cellOf[id] = NONE;
+                maxHalfWidth = Math.max(maxHalfWidth, entities.hitWidth[id] / 2);
+                maxHalfHeight = Math.max(maxHalfHeight, entities.hitHeight[id] / 2);
+            }
+            indexed = count;
+        }
+        for (int id = 0; id < count; id++) {
+            update(id);
+        }
+    }
+
+    /**
+     * Refiles one entity after its position changed outside the usual update pass.
+     */
+    public void update(int id) {
+        int cell = cellAt(centerX(id), centerY(id));
+        int old = cellOf[id];
+        if (cell == old) return;
+
+        if (old != NONE) unlink(id, old);
+        link(id, cell);
+    }
+
+    /**
+     * Visits every entity whose hitbox overlaps the box (world pixels).
+     */
+    public void queryAabb(float minX, float minY, float maxX, float maxY, EntityVisitor visitor) {
+        EntityStore e = entities;
+        int firstCol = colAt(minX - maxHalfWidth), lastCol = colAt(maxX + maxHalfWidth);
+        int firstRow = rowAt(minY - maxHalfHeight), lastRow = rowAt(maxY + maxHalfHeight);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                for (int id = cellHead[row * cols + col]; id != NONE; id = next[id]) {
+                    float left = e.x[id] + e.hitX[id];
+                    float top = e.y[id] + e.hitY[id];
+                    if (left < maxX && left + e.hitWidth[id] > minX
+                            && top < maxY && top + e.hitHeight[id] > minY) {
+                        visitor.visit(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every entity whose hitbox centre lies within radius of a point.
+     */
+    public void queryRadius(float x, float y, float radius, EntityVisitor visitor) {
+        float radiusSquared = radius * radius;
+        int firstCol = colAt(x - radius), lastCol = colAt(x + radius);
+        int firstRow = rowAt(y - radius), lastRow = rowAt(y + radius);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                for (int id = cellHead[row * cols + col]; id != NONE; id = next[id]) {
+                    float dx = centerX(id) - x;
+                    float dy = centerY(id) - y;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        visitor.visit(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every entity filed in the cell range [firstRow..lastRow] x [firstCol..lastCol],
+     * clamped to the grid. Cheapest query: no per-entity test.
+     */
+    public void queryCells(int firstRow, int firstCol, int lastRow, int lastCol, EntityVisitor visitor) {
+        firstRow = Math.max(0, firstRow);
+        firstCol = Math.max(0, firstCol);
+        lastRow = Math.min(rows - 1, lastRow);
+        lastCol = Math.min(cols - 1, lastCol);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                for (int id = cellHead[row * cols + col]; id != NONE; id = next[id]) {
+                    visitor.visit(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies ids of entities whose hitbox overlaps the box into out.
+     *
+     * @return number of matches, which may exceed out.length (extra matches are not written)
+     */
+    public int queryAabb(float minX, float minY, float maxX, float maxY, int[] out) {
+        EntityStore e = entities;
+        int firstCol = colAt(minX - maxHalfWidth), lastCol = colAt(maxX + maxHalfWidth);
+        int firstRow = rowAt(minY - maxHalfHeight), lastRow = rowAt(maxY + maxHalfHeight);
+        int found = 0;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                for (int id = cellHead[row * cols + col]; id != NONE; id = next[id]) {
+                    float left = e.x[id] + e.hitX[id];
+                    float top = e.y[id] + e.hitY[id];
+                    if (left < maxX && left + e.hitWidth[id] > minX
+                            && top < maxY && top + e.hitHeight[id] > minY) {
+                        if (found < out.length) out[found] = id;
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    private void link(int id, int cell) {
+        int head = cellHead[cell];
+        next[id] = head;
+        prev[id] = NONE;
+        if (head != NONE) prev[head] = id;
+        cellHead[cell] = id;
+        cellOf[id] = cell;
+    }
+
+    private void unlink(int id, int cell) {
+        if (prev[id] != NONE) next[prev[id]] = next[id];
+        else cellHead[cell] = next[id];
+        if (next[id] != NONE) prev[next[id]] = prev[id];
+    }
+
+    private float centerX(int id) {
+        return entities.x[id] + entities.hitX[id] + entities.hitWidth[id] / 2;
+    }
+
+    private float centerY(int id) {
+        return entities.y[id] + entities.hitY[id] + entities.hitHeight[id] / 2;
+    }
+
+    private int cellAt(float x, float y) {
+        return rowAt(y) * cols + colAt(x);
+    }
+
+    private int colAt(float x) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor(x / TILE_WIDTH)));
+    }
+
+    private int rowAt(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / TILE_HEIGHT)));
+    }
+
+    private void ensureCapacity(int count) {
+        if (count <= next.length) return;
+        int capacity = Math.max(count, next.length * 2);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        cellOf = Arrays.copyOf(cellOf, capacity);
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.entity;
+
+import com.game.concurrent.RangeScheduler;
+
+/**
+ * Runs a per-entity update over [0, count) in batches on a RangeScheduler.
+ * Only for work where each entity reads shared state and writes nothing but its own
+ * slots (NpcSystem, MovementSystem, AnimationSystem); the result is then identical to
+ * a serial run whatever the batch order. Work that touches several entities at once
+ * (SpatialGrid, EntityCollisionSystem) belongs in the serial phase after run() returns.
+ * Call run() from one thread at a time (the update thread).
+ */
+public class UpdateScheduler {
+
+    private static final int DEFAULT_BATCH_SIZE = 1024; // Entities per task; small enough to balance, big enough to amortize
+
+    /**
+     * Updates entities in [from, to).
+     */
+    @FunctionalInterface
+    public interface RangeTask {
+        void update(float deltaTime, int from, int to);
+    }
+
+    private final RangeScheduler scheduler;
+    private final RangeScheduler.Task batch = this::updateBatch;
+    // Current run(), published to the workers by the pool's invoke
+    private RangeTask task;
+    private float deltaTime;
+
+    /**
+     * @param threads worker count; 1 or less runs everything on the calling thread
+     */
+    public UpdateScheduler(int threads) {
+        this(threads, DEFAULT_BATCH_SIZE);
+    }
+
+    public UpdateScheduler(int threads, int batchSize) {
+        this.scheduler = new RangeScheduler(threads, batchSize, "entity-update");
+    }
+
+    /**
+     * Runs the task over every entity and returns once all batches are done.
+     */
+    public void run(RangeTask task, float deltaTime, int count) {
+        this.task = task;
+        this.deltaTime = deltaTime;
+        try {
+            scheduler.run(batch, count);
+        } finally {
+            this.task = null;
+        }
+    }
+
+    public boolean isParallel() {
+        return scheduler.isParallel();
+    }
+
+    /**
+     * Returns worker count, 1 when serial.
+     */
+    public int getParallelism() {
+        return scheduler.getParallelism();
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void updateBatch(int from, int to) {
+        task.update(deltaTime, from, to);
+    }
+}
@@ -0,0 +1,8 @@
+package com.game.input_handler;
+
+/**
+ * Game actions keys are mapped to; what travels through the InputQueue.
+ */
+public enum InputAction {
+    MOVE_UP, MOVE_DOWN, MOVE_LEFT, MOVE_RIGHT, DIE
+}
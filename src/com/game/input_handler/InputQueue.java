@@ -0,0 +1,100 @@
+package com.game.input_handler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-producer/single-consumer ring buffer of timestamped input events.
+ * The EDT offers key transitions; the game thread drains them at the start of each tick,
+ * up to that tick's simulated time. Events are packed into primitive arrays and the
+ * indices are published with release/acquire ordering, so neither side locks or allocates.
+ * When the ring is full new events are dropped and counted.
+ */
+public class InputQueue {
+
+    private static final int DEFAULT_CAPACITY = 256; // Power of two
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    /**
+     * Receives drained events in the order they were offered.
+     */
+    @FunctionalInterface
+    public interface InputConsumer {
+        void accept(InputAction action, boolean pressed, long timeNanos);
+    }
+
+    private final int mask;
+    private final int[] events;  // action ordinal << 1 | pressed
+    private final long[] times;  // System.nanoTime() of each event
+    private final AtomicLong head = new AtomicLong(); // Next slot to read, written by consumer only
+    private final AtomicLong tail = new AtomicLong(); // Next slot to write, written by producer only
+    private long cachedHead;     // Producer's last view of head, saves re-reading it every offer
+    private volatile long droppedEvents;
+
+    public InputQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public InputQueue(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.events = new int[size];
+        this.times = new long[size];
+    }
+
+    /**
+     * Appends an event. Producer thread only.
+     *
+     * @return false if the queue was full and the event was dropped
+     */
+    public boolean offer(InputAction action, boolean pressed, long timeNanos) {
+        long write = tail.get();
+        if (write - cachedHead > mask) {
+            cachedHead = head.get();
+            if (write - cachedHead > mask) {
+                droppedEvents++;
+                return false;
+            }
+        }
+        int slot = (int) write & mask;
+        events[slot] = action.ordinal() << 1 | (pressed ? 1 : 0);
+        times[slot] = timeNanos;
+        tail.lazySet(write + 1); // Release: slot contents become visible with the new tail
+        return true;
+    }
+
+    /**
+     * Hands every event stamped at or before untilNanos to the consumer, oldest first.
+     * Later events stay queued for a later tick. Consumer thread only.
+     *
+     * @return number of events drained
+     */
+    public int drain(long untilNanos, InputConsumer consumer) {
+        long read = head.get();
+        long available = tail.get(); // Acquire: pairs with the producer's lazySet
+        int drained = 0;
+        while (read < available) {
+            int slot = (int) read & mask;
+            if (times[slot] > untilNanos) break;
+            int event = events[slot];
+            consumer.accept(ACTIONS[event >>> 1], (event & 1) != 0, times[slot]);
+            read++;
+            drained++;
+        }
+        head.lazySet(read); // Frees the slots for the producer
+        return drained;
+    }
+
+    /**
+     * Returns events waiting to be drained (approximate while the producer is active).
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -1,16 +1,31 @@
 package com.game.input_handler;
 
-import com.game.window.GameWorld;
-
+import javax.swing.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 
+/**
+ * Maps keys to InputActions and queues their press/release transitions for the game thread.
+ * Runs on the EDT and never touches game state directly.
+ * <p>
+ * A transition the full queue refuses is not lost: the key state the game was last told
+ * is kept apart from the physical one, and the difference is re-sent (on the next key
+ * event, or by a retry timer on the EDT) until the queue takes it. A press and release
+ * that both miss the queue coalesce into nothing, but a key never stays stuck.
+ */
 public class KeyboardHandler implements KeyListener {
 
-    public GameWorld gameWorld;
+    private static final InputAction[] ACTIONS = InputAction.values();
+    private static final int RETRY_MILLIS = 5;
+
+    private final InputQueue inputQueue;
+    // EDT only
+    private final boolean[] held = new boolean[ACTIONS.length]; // Physical key state
+    private final boolean[] sent = new boolean[ACTIONS.length]; // State the game was told
+    private final Timer retryTimer = new Timer(RETRY_MILLIS, e -> flush());
 
-    public KeyboardHandler(GameWorld gameWorld) {
-        this.gameWorld = gameWorld;
+    public KeyboardHandler(InputQueue inputQueue) {
+        this.inputQueue = inputQueue;
     }
 
     @Override
@@ -20,24 +35,54 @@ public class KeyboardHandler implements KeyListener {
 
     @Override
     public void keyPressed(KeyEvent e) {
-        int key = e.getKeyCode();
-        switch (key) {
-            case KeyEvent.VK_UP -> gameWorld.getPlayer().setUp(true);
-            case KeyEvent.VK_DOWN -> gameWorld.getPlayer().setDown(true);
-            case KeyEvent.VK_LEFT -> gameWorld.getPlayer().setLeft(true);
-            case KeyEvent.VK_RIGHT -> gameWorld.getPlayer().setRight(true);
-            case KeyEvent.VK_D -> gameWorld.getPlayer().setDead(true);
-        }
+        InputAction action = toAction(e.getKeyCode());
+        if (action != null) queue(action, true);
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        int key = e.getKeyCode();
-        switch (key) {
-            case KeyEvent.VK_UP -> gameWorld.getPlayer().setUp(false);
-            case KeyEvent.VK_DOWN -> gameWorld.getPlayer().setDown(false);
-            case KeyEvent.VK_LEFT -> gameWorld.getPlayer().setLeft(false);
-            case KeyEvent.VK_RIGHT -> gameWorld.getPlayer().setRight(false);
+        InputAction action = toAction(e.getKeyCode());
+        if (action != null) queue(action, false);
+    }
+
+    /**
+     * Queues only real transitions; auto-repeat presses of a held key are skipped.
+     */
+    private void queue(InputAction action, boolean pressed) {
+        if (held[action.ordinal()] == pressed) return;
+        held[action.ordinal()] = pressed;
+        flush();
+    }
+
+    /**
+     * Offers every action whose physical state differs from what the game was told.
+     * Keeps the retry timer running while the queue is still full.
+     */
+    private void flush() {
+        boolean pending = false;
+        for (int i = 0; i < ACTIONS.length; i++) {
+            if (held[i] == sent[i]) continue;
+            if (inputQueue.offer(ACTIONS[i], held[i], System.nanoTime())) {
+                sent[i] = held[i];
+            } else {
+                pending = true;
+            }
+        }
+        if (pending) {
+            retryTimer.start();
+        } else {
+            retryTimer.stop();
         }
     }
+
+    private static InputAction toAction(int keyCode) {
+        return switch (keyCode) {
+            case KeyEvent.VK_UP -> InputAction.MOVE_UP;
+            case KeyEvent.VK_DOWN -> InputAction.MOVE_DOWN;
+            case KeyEvent.VK_LEFT -> InputAction.MOVE_LEFT;
+            case KeyEvent.VK_RIGHT -> InputAction.MOVE_RIGHT;
+            case KeyEvent.VK_D -> InputAction.DIE;
+            default -> null;
+        };
+    }
 }
@@ -0,0 +1,34 @@
+package com.game.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic event count (draw calls, tiles drawn, ...).
+ * Single writer: increments are a plain load and an ordered store, no CAS,
+ * so counting in a hot loop stays cheap. Safe to read from any thread.
+ */
+public class Counter {
+
+    private final String name;
+    private final AtomicLong value = new AtomicLong();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void increment() {
+        value.lazySet(value.get() + 1);
+    }
+
+    public void add(long amount) {
+        value.lazySet(value.get() + amount);
+    }
+
+    public long get() {
+        return value.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,36 @@
+package com.game.metrics;
+
+/**
+ * The game's own metrics, registered once so hot paths can update them through static fields.
+ * Durations are in nanoseconds; counters are totals since startup (take deltas per frame).
+ */
+public final class GameMetrics {
+
+    public static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    // Game loop
+    public static final LatencyHistogram TICK_TIME = REGISTRY.histogram("loop.tick");       // One update()
+    public static final LatencyHistogram RENDER_TIME = REGISTRY.histogram("loop.render");   // One present()
+    public static final LatencyHistogram FRAME_TIME = REGISTRY.histogram("loop.frame");     // Present to present
+    public static final LatencyHistogram FRAME_LATENCY = REGISTRY.histogram("loop.latency"); // Publish to present
+    // Rendering
+    public static final Counter DRAW_CALLS = REGISTRY.counter("render.drawCalls"); // drawImage calls on screen
+    // Tiles drawn into the frame one by one (per-tile map, CPU rasterizer); 0 while cached pages are reused
+    public static final Counter TILES_DRAWN = REGISTRY.counter("render.tilesDrawn");
+    // Tiles drawn into cached map pages (page builds and edited cells); the pages reach the frame as DRAW_CALLS
+    public static final Counter TILES_CACHED = REGISTRY.counter("render.tilesCached");
+    public static final Counter SPRITES_DRAWN = REGISTRY.counter("render.spritesDrawn");
+    public static final Gauge REDRAWN_PERCENT = REGISTRY.gauge("render.redrawnPercent"); // Of the view, last frame
+    // World
+    public static final Gauge ENTITIES = REGISTRY.gauge("world.entities");
+    public static final Gauge LOADED_CHUNKS = REGISTRY.gauge("world.loadedChunks");
+    // Startup, milliseconds of JVM uptime when each was first reached
+    public static final Gauge LOADING_SCREEN_SHOWN = REGISTRY.gauge("startup.loadingScreenMs");
+    public static final Gauge WORLD_READY = REGISTRY.gauge("startup.worldReadyMs");
+    public static final Gauge FIRST_FRAME = REGISTRY.gauge("startup.firstFrameMs");
+    // JVM
+    public static final LatencyHistogram GC_PAUSE = REGISTRY.histogram("gc.pause");
+
+    private GameMetrics() {
+    }
+}
@@ -0,0 +1,26 @@
+package com.game.metrics;
+
+/**
+ * Latest value of something that goes up and down (entity count, loaded chunks, ...).
+ */
+public class Gauge {
+
+    private final String name;
+    private volatile long value;
+
+    Gauge(String name) {
+        this.name = name;
+    }
+
+    public void set(long value) {
+        this.value = value;
+    }
+
+    public long get() {
+        return value;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
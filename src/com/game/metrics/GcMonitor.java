@@ -0,0 +1,42 @@
+package com.game.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Records the duration of every garbage collection into GameMetrics.GC_PAUSE.
+ * Uses the JDK's GC notifications, which arrive on a single JMX thread after each
+ * collection (millisecond resolution). Concurrent cycles that do not stop the game
+ * (e.g. "G1 Concurrent GC", "ZGC Cycles") are skipped.
+ */
+public final class GcMonitor {
+
+    private static boolean installed;
+
+    private GcMonitor() {
+    }
+
+    /**
+     * Starts listening; later calls do nothing.
+     */
+    public static synchronized void install() {
+        if (installed) return;
+        installed = true;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gc instanceof NotificationEmitter emitter)) continue;
+            emitter.addNotificationListener((notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                if (info.getGcName().contains("Concurrent") || info.getGcName().contains("Cycles")) return;
+                GameMetrics.GC_PAUSE.record(info.getGcInfo().getDuration() * 1_000_000L);
+            }, null, null);
+        }
+    }
+}
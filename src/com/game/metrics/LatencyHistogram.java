@@ -0,0 +1,140 @@
+package com.game.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of durations in nanoseconds, in the style of HdrHistogram:
+ * every power of two is split into 32 linear sub-buckets, so any recorded value is
+ * reported within about 3%. Covers 0 to ~18 minutes in 1152 buckets (9KB).
+ * <p>
+ * record() never allocates. Single writer; readers on other threads may see a
+ * recording in progress, which is fine for display. Interval views (e.g. "p99 over the
+ * last second") are taken with {@link #setToInterval}, also without allocating.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_VALUE_BITS = 40; // 2^40 ns ≈ 18 minutes
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final String name;
+    private final long[] counts = new long[BUCKET_COUNT];
+    private volatile long totalCount; // Written last: a reader seeing it sees the bucket update
+    private long totalNanos;
+    private long maxNanos;
+
+    LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Standalone histogram for interval views, not listed in any registry.
+     */
+    public LatencyHistogram() {
+        this("interval");
+    }
+
+    /**
+     * Records one duration; negative values count as 0, huge ones are clamped.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts[bucketIndex(value)]++;
+        totalNanos += value;
+        if (value > maxNanos) maxNanos = value;
+        totalCount = totalCount + 1;
+    }
+
+    /**
+     * Returns the smallest value that at least the given percentage of recordings
+     * are less than or equal to (to bucket precision), or 0 if empty.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount;
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += counts[index];
+            if (seen >= rank) return Math.min(bucketUpperBound(index), maxNanos);
+        }
+        return maxNanos;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of all recorded values, in nanoseconds.
+     */
+    public long getMean() {
+        long count = totalCount;
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Makes this histogram hold what source recorded since baseline, then copies source
+     * into baseline so the next call covers the next interval. The interval maximum is
+     * known to bucket precision only. Call from one reader thread; baseline belongs to it.
+     */
+    public void setToInterval(LatencyHistogram source, LatencyHistogram baseline) {
+        long count = 0, total = 0;
+        int highest = -1;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            long current = source.counts[index];
+            long delta = current - baseline.counts[index];
+            baseline.counts[index] = current;
+            counts[index] = delta;
+            if (delta > 0) {
+                count += delta;
+                total += delta * bucketMidpoint(index);
+                highest = index;
+            }
+        }
+        totalNanos = total;
+        maxNanos = highest < 0 ? 0 : Math.min(bucketUpperBound(highest), source.maxNanos);
+        totalCount = count;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalNanos = 0;
+        maxNanos = 0;
+        totalCount = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Values below 64 get exact buckets; above that, the top 6 significant bits select one.
+     */
+    private static int bucketIndex(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    private static long bucketLowerBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) return index;
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return (long) ((index & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT) << shift;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) return index;
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return bucketLowerBound(index) + (1L << shift) - 1;
+    }
+
+    private static long bucketMidpoint(int index) {
+        return (bucketLowerBound(index) + bucketUpperBound(index)) / 2;
+    }
+}
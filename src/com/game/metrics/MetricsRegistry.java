@@ -0,0 +1,57 @@
+package com.game.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Named counters, gauges and latency histograms.
+ * Look metrics up once (at startup or in a static field) and keep the reference:
+ * lookups synchronize and may allocate, updating a metric never does.
+ * Registering a name twice returns the same instance.
+ */
+public class MetricsRegistry {
+
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+    private final Map<String, Gauge> gauges = new LinkedHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+
+    public synchronized Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    public synchronized Gauge gauge(String name) {
+        return gauges.computeIfAbsent(name, Gauge::new);
+    }
+
+    public synchronized LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Returns a copy of all counters in registration order.
+     */
+    public synchronized List<Counter> getCounters() {
+        return copy(counters);
+    }
+
+    /**
+     * Returns a copy of all gauges in registration order.
+     */
+    public synchronized List<Gauge> getGauges() {
+        return copy(gauges);
+    }
+
+    /**
+     * Returns a copy of all histograms in registration order.
+     */
+    public synchronized List<LatencyHistogram> getHistograms() {
+        return copy(histograms);
+    }
+
+    private static <T> List<T> copy(Map<String, T> metrics) {
+        return Collections.unmodifiableList(new ArrayList<>(metrics.values()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Decoding one map chunk, on a loader thread or (preload) the caller.
+ */
+@Name("com.game.ChunkLoad")
+@Label("Chunk Load")
+@Category({"Game", "Assets"})
+@StackTrace(false)
+public class ChunkLoadEvent extends jdk.jfr.Event {
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Y")
+    public int chunkY;
+}
@@ -0,0 +1,48 @@
+package com.game.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+
+/**
+ * Starts a Java Flight Recorder recording from inside the game (-Dgame.jfr=game.jfr),
+ * using the JDK "profile" settings plus every com.game event.
+ * The file is written when the JVM exits; open it in JDK Mission Control and
+ * line GC, allocation and CPU samples up with the Tick and Frame events.
+ * Same as -XX:StartFlightRecording=settings=profile,filename=game.jfr, minus the typing.
+ */
+public final class FlightRecording {
+
+    private static final List<Class<? extends jdk.jfr.Event>> GAME_EVENTS = List.of(
+            TickEvent.class, FrameEvent.class, MapRenderEvent.class, MapLoadEvent.class,
+            ChunkLoadEvent.class, SpriteSheetLoadEvent.class, SpriteSliceEvent.class);
+
+    private FlightRecording() {
+    }
+
+    /**
+     * Starts recording to the given file until exit.
+     *
+     * @throws RuntimeException if the recording cannot be started
+     */
+    public static Recording start(Path path) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            for (Class<? extends jdk.jfr.Event> event : GAME_EVENTS) {
+                recording.enable(event).withoutThreshold();
+            }
+            recording.setName("game");
+            recording.setDestination(path);
+            recording.setDumpOnExit(true);
+            recording.start();
+            System.out.println("Flight recording to " + path);
+            return recording;
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Failed to start flight recording: " + path, e);
+        }
+    }
+}
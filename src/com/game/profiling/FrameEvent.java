@@ -0,0 +1,36 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One presented frame (GameLoop.render), with what it drew.
+ */
+@Name("com.game.Frame")
+@Label("Frame")
+@Category({"Game", "Loop"})
+@Description("Drawing and presenting one frame")
+@StackTrace(false)
+public class FrameEvent extends jdk.jfr.Event {
+
+    @Label("Snapshot Tick")
+    @Description("Simulation tick of the snapshot drawn, -1 if none yet")
+    public long snapshotTick;
+
+    @Label("Draw Calls")
+    public long drawCalls;
+
+    @Label("Tiles Drawn")
+    @Description("Tiles drawn into the frame one by one; 0 when the map is drawn from cached pages")
+    public long tilesDrawn;
+
+    @Label("Tiles Cached")
+    @Description("Tiles drawn into cached map pages (new pages, edited cells)")
+    public long tilesCached;
+
+    @Label("Sprites Drawn")
+    public long spritesDrawn;
+}
@@ -0,0 +1,59 @@
+package com.game.profiling;
+
+import com.game.metrics.GameMetrics;
+
+/**
+ * Times drawn frames: GameMetrics.RENDER_TIME plus a FrameEvent with the draw calls,
+ * tiles (drawn and cached) and sprites the frame added, when flight recording.
+ * Shared by GameLoop and HeadlessRunner so both report frames the same way.
+ * One instance per rendering thread; pass the event begin() returns to end(),
+ * keeping it in a local variable (see TickTimer).
+ */
+public final class FrameTimer {
+
+    private long startNanos;
+    private long drawCalls, tilesDrawn, tilesCached, spritesDrawn; // Counters at begin()
+
+    /**
+     * Starts timing a frame.
+     */
+    public FrameEvent begin() {
+        FrameEvent event = new FrameEvent();
+        drawCalls = GameMetrics.DRAW_CALLS.get();
+        tilesDrawn = GameMetrics.TILES_DRAWN.get();
+        tilesCached = GameMetrics.TILES_CACHED.get();
+        spritesDrawn = GameMetrics.SPRITES_DRAWN.get();
+        event.begin();
+        startNanos = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * Ends the frame begun last and records it.
+     *
+     * @param event        what begin() returned
+     * @param snapshotTick simulation tick of the snapshot drawn, -1 if none yet
+     * @return System.nanoTime() at the end of the frame
+     */
+    public long end(FrameEvent event, long snapshotTick) {
+        long endNanos = System.nanoTime();
+        event.end();
+        GameMetrics.RENDER_TIME.record(endNanos - startNanos);
+        if (event.shouldCommit()) {
+            event.snapshotTick = snapshotTick;
+            event.drawCalls = GameMetrics.DRAW_CALLS.get() - drawCalls;
+            event.tilesDrawn = GameMetrics.TILES_DRAWN.get() - tilesDrawn;
+            event.tilesCached = GameMetrics.TILES_CACHED.get() - tilesCached;
+            event.spritesDrawn = GameMetrics.SPRITES_DRAWN.get() - spritesDrawn;
+            event.commit();
+        }
+        return endNanos;
+    }
+
+    /**
+     * System.nanoTime() at the start of the frame begun last.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Opening a map's data (header and index only for .tmap; everything for CSV).
+ */
+@Name("com.game.MapLoad")
+@Label("Map Load")
+@Category({"Game", "Assets"})
+public class MapLoadEvent extends jdk.jfr.Event {
+
+    @Label("Map")
+    public String map;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Columns")
+    public int cols;
+
+    @Label("Layers")
+    public int layers;
+}
@@ -0,0 +1,28 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Drawing the visible map layers for one frame (Map.render).
+ */
+@Name("com.game.MapRender")
+@Label("Map Render")
+@Category({"Game", "Render"})
+@StackTrace(false)
+public class MapRenderEvent extends jdk.jfr.Event {
+
+    @Label("Layers")
+    public int layers;
+
+    @Label("Layer Cache")
+    public boolean layerCache;
+
+    @Label("Chunks Drawn")
+    public int chunksDrawn;
+
+    @Label("Pages Built")
+    public int pagesBuilt;
+}
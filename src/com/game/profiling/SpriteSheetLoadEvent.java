@@ -0,0 +1,23 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reading and decoding one sprite sheet image.
+ */
+@Name("com.game.SpriteSheetLoad")
+@Label("Sprite Sheet Load")
+@Category({"Game", "Assets"})
+public class SpriteSheetLoadEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+}
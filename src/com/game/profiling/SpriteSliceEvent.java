@@ -0,0 +1,20 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Cutting frames out of a sheet into the atlas (SpriteLoader), or building the atlas image.
+ */
+@Name("com.game.SpriteSlice")
+@Label("Sprite Slice")
+@Category({"Game", "Assets"})
+public class SpriteSliceEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Sprites")
+    public int sprites;
+}
@@ -0,0 +1,24 @@
+package com.game.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One simulation update (GameLoop.update).
+ */
+@Name("com.game.Tick")
+@Label("Tick")
+@Category({"Game", "Loop"})
+@Description("One fixed-step world update: input, entity systems, collision, camera")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Entities")
+    public int entities;
+}
@@ -0,0 +1,51 @@
+package com.game.profiling;
+
+import com.game.metrics.GameMetrics;
+
+/**
+ * Times simulation ticks: GameMetrics.TICK_TIME plus a TickEvent when flight recording.
+ * Shared by GameLoop and HeadlessRunner so both report ticks the same way.
+ * One instance per updating thread; pass the event begin() returns to end().
+ * Callers should keep that event in a local variable: stored anywhere else it escapes,
+ * and each tick then allocates one even with no recording running.
+ */
+public final class TickTimer {
+
+    private long startNanos;
+
+    /**
+     * Starts timing a tick.
+     */
+    public TickEvent begin() {
+        TickEvent event = new TickEvent();
+        event.begin();
+        startNanos = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * Ends the tick begun last and records it.
+     *
+     * @param event what begin() returned
+     * @param tick  the world's tick count after the update
+     * @return System.nanoTime() at the end of the tick
+     */
+    public long end(TickEvent event, long tick) {
+        long endNanos = System.nanoTime();
+        GameMetrics.TICK_TIME.record(endNanos - startNanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.tick = tick;
+            event.entities = (int) GameMetrics.ENTITIES.get(); // Store does not exist while loading
+            event.commit();
+        }
+        return endNanos;
+    }
+
+    /**
+     * System.nanoTime() at the start of the tick begun last.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+}
@@ -0,0 +1,131 @@
+package com.game.render;
+
+/**
+ * Set of rectangles that changed on screen since the last frame, in world pixels.
+ * Overlapping or touching rectangles are merged as they are added, and the set is
+ * capped at MAX_RECTS by folding a new rectangle into the one it grows least,
+ * so redrawing it never costs more than a handful of clipped passes.
+ * <p>
+ * Preallocated, no allocation per frame. Render thread only.
+ */
+public class DirtyRegion {
+
+    private static final int MAX_RECTS = 16;
+
+    // Rectangles as [x0, x1) x [y0, y1)
+    private final int[] x0 = new int[MAX_RECTS], y0 = new int[MAX_RECTS];
+    private final int[] x1 = new int[MAX_RECTS], y1 = new int[MAX_RECTS];
+    private int count;
+
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Marks a rectangle as changed. Empty rectangles are ignored.
+     */
+    public void add(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        int left = x, top = y, right = x + width, bottom = y + height;
+
+        // Absorb every rectangle the new one overlaps or touches; the union may reach more
+        for (int i = 0; i < count; ) {
+            if (left <= x1[i] && x0[i] <= right && top <= y1[i] && y0[i] <= bottom) {
+                left = Math.min(left, x0[i]);
+                top = Math.min(top, y0[i]);
+                right = Math.max(right, x1[i]);
+                bottom = Math.max(bottom, y1[i]);
+                remove(i);
+                i = 0;
+            } else {
+                i++;
+            }
+        }
+
+        if (count == MAX_RECTS) {
+            int best = 0;
+            long bestGrowth = Long.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                long growth = area(Math.min(left, x0[i]), Math.min(top, y0[i]),
+                        Math.max(right, x1[i]), Math.max(bottom, y1[i])) - area(x0[i], y0[i], x1[i], y1[i]);
+                if (growth < bestGrowth) {
+                    bestGrowth = growth;
+                    best = i;
+                }
+            }
+            int mergedLeft = Math.min(left, x0[best]), mergedTop = Math.min(top, y0[best]);
+            int mergedRight = Math.max(right, x1[best]), mergedBottom = Math.max(bottom, y1[best]);
+            remove(best);
+            add(mergedLeft, mergedTop, mergedRight - mergedLeft, mergedBottom - mergedTop);
+            return;
+        }
+
+        x0[count] = left;
+        y0[count] = top;
+        x1[count] = right;
+        y1[count] = bottom;
+        count++;
+    }
+
+    /**
+     * Cuts every rectangle down to the given area, dropping those outside it.
+     */
+    public void clip(int x, int y, int width, int height) {
+        for (int i = 0; i < count; ) {
+            x0[i] = Math.max(x0[i], x);
+            y0[i] = Math.max(y0[i], y);
+            x1[i] = Math.min(x1[i], x + width);
+            y1[i] = Math.min(y1[i], y + height);
+            if (x0[i] >= x1[i] || y0[i] >= y1[i]) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns total area of all rectangles (they never overlap after add()).
+     */
+    public long getArea() {
+        long area = 0;
+        for (int i = 0; i < count; i++) area += area(x0[i], y0[i], x1[i], y1[i]);
+        return area;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getX(int i) {
+        return x0[i];
+    }
+
+    public int getY(int i) {
+        return y0[i];
+    }
+
+    public int getWidth(int i) {
+        return x1[i] - x0[i];
+    }
+
+    public int getHeight(int i) {
+        return y1[i] - y0[i];
+    }
+
+    private void remove(int i) {
+        count--;
+        x0[i] = x0[count];
+        y0[i] = y0[count];
+        x1[i] = x1[count];
+        y1[i] = y1[count];
+    }
+
+    private static long area(int left, int top, int right, int bottom) {
+        return (long) (right - left) * (bottom - top);
+    }
+}
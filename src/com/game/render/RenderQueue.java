@@ -0,0 +1,172 @@
+package com.game.render;
+
+import com.game.asset_helper.SpriteAtlas;
+import com.game.metrics.GameMetrics;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Per-frame list of sprite draw commands, sorted by layer then depth before drawing.
+ * Renderables submit() instead of drawing, so draw order no longer depends on who
+ * draws first: within a layer, lower depth (e.g. the y of a sprite's feet) is drawn
+ * first, and equal keys keep submission order.
+ * <p>
+ * Commands are packed into preallocated int arrays (key, sprite, x, y) and sorted as
+ * an index permutation with a stable LSD radix sort on the 32-bit key, so a frame
+ * allocates nothing once the arrays have grown to the scene size. Every sprite lives
+ * in the one SpriteAtlas image, so the sorted flush never switches source image.
+ * <p>
+ * Render thread only.
+ */
+public class RenderQueue {
+
+    // Sort key: [layer: 8 bits][depth + DEPTH_BIAS: 24 bits]
+    public static final int LAYER_ENTITIES = 1;
+    private static final int LAYER_SHIFT = 24;
+    private static final int MAX_LAYER = 0xFF;
+    private static final int DEPTH_BIAS = 1 << 23; // Depth range -8M..8M pixels
+    private static final int DEPTH_MASK = (1 << LAYER_SHIFT) - 1;
+    // Radix sort: 3 passes of 11 bits cover the key
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_SIZE = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX_SIZE - 1;
+
+    private int[] keys, spriteIds, xs, ys;
+    private int[] order, scratch; // Sorted command indices, and the sort's second buffer
+    private final int[] counts = new int[RADIX_SIZE];
+    private int size;
+    private boolean sorted;
+
+    public RenderQueue(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    /**
+     * Empties the queue for the next frame (keeps its arrays).
+     */
+    public void clear() {
+        size = 0;
+        sorted = false;
+    }
+
+    /**
+     * Adds a sprite draw at world position (x, y), top-left.
+     *
+     * @param layer 0..255, drawn in ascending order
+     * @param depth order within the layer, ascending (clamped to ±8M)
+     */
+    public void submit(int layer, int depth, int spriteId, int x, int y) {
+        if (layer < 0 || layer > MAX_LAYER) {
+            throw new IllegalArgumentException("Layer out of range: " + layer);
+        }
+        if (size == keys.length) {
+            allocate(size * 2);
+        }
+        int biasedDepth = Math.min(Math.max(depth + DEPTH_BIAS, 0), DEPTH_MASK);
+        keys[size] = layer << LAYER_SHIFT | biasedDepth;
+        spriteIds[size] = spriteId;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+        sorted = false;
+    }
+
+    /**
+     * Orders commands by key, stable. Passes whose digit is the same for every
+     * command (e.g. the layer byte when everything is on one layer) are skipped.
+     */
+    public void sort() {
+        for (int i = 0; i < size; i++) order[i] = i;
+        int[] source = order, target = scratch;
+        for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(keys[source[i]] >>> shift) & RADIX_MASK]++;
+            }
+            if (size == 0 || counts[(keys[source[0]] >>> shift) & RADIX_MASK] == size) continue;
+
+            int offset = 0;
+            for (int digit = 0; digit < RADIX_SIZE; digit++) {
+                int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int command = source[i];
+                target[counts[(keys[command] >>> shift) & RADIX_MASK]++] = command;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        order = source;
+        scratch = target;
+        sorted = true;
+    }
+
+    /**
+     * Draws every command in sorted order (sorting first if needed) and clears the queue.
+     * Graphics must be in the same space the positions were submitted in.
+     */
+    public void flush(Graphics g, SpriteAtlas atlas) {
+        if (!sorted) sort();
+        for (int i = 0; i < size; i++) {
+            int command = order[i];
+            atlas.draw(g, spriteIds[command], xs[command], ys[command]);
+        }
+        GameMetrics.SPRITES_DRAWN.add(size);
+        GameMetrics.DRAW_CALLS.add(size);
+        clear();
+    }
+
+    /**
+     * Draws, in sorted order, only the commands whose sprite overlaps the given area,
+     * and keeps the queue (for redrawing several regions of one frame). Clip to the
+     * area first; sprites crossing its edge are drawn whole otherwise.
+     */
+    public void draw(Graphics g, SpriteAtlas atlas, int x, int y, int width, int height) {
+        if (!sorted) sort();
+        int drawn = 0;
+        for (int i = 0; i < size; i++) {
+            int command = order[i];
+            int spriteId = spriteIds[command];
+            int spriteX = xs[command], spriteY = ys[command];
+            if (spriteX + atlas.getWidth(spriteId) <= x || spriteX >= x + width
+                    || spriteY + atlas.getHeight(spriteId) <= y || spriteY >= y + height) continue;
+
+            atlas.draw(g, spriteId, spriteX, spriteY);
+            drawn++;
+        }
+        GameMetrics.SPRITES_DRAWN.add(drawn);
+        GameMetrics.DRAW_CALLS.add(drawn);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns sprite id of the i-th command in draw order (after sort()).
+     */
+    public int getSortedSpriteId(int i) {
+        return spriteIds[order[i]];
+    }
+
+    public int getSortedX(int i) {
+        return xs[order[i]];
+    }
+
+    public int getSortedY(int i) {
+        return ys[order[i]];
+    }
+
+    private void allocate(int capacity) {
+        keys = keys == null ? new int[capacity] : Arrays.copyOf(keys, capacity);
+        spriteIds = spriteIds == null ? new int[capacity] : Arrays.copyOf(spriteIds, capacity);
+        xs = xs == null ? new int[capacity] : Arrays.copyOf(xs, capacity);
+        ys = ys == null ? new int[capacity] : Arrays.copyOf(ys, capacity);
+        order = new int[capacity];
+        scratch = new int[capacity];
+    }
+}
@@ -0,0 +1,246 @@
+package com.game.render;
+
+import com.game.asset_helper.SpriteAtlas;
+import com.game.concurrent.RangeScheduler;
+import com.game.metrics.GameMetrics;
+import com.game.world.Map;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Software renderer that composites the map and the queued sprites straight into the
+ * int[] pixels of one frame image, bypassing Java2D for everything but the final blit.
+ * <p>
+ * The view is cut into BIN_SIZE screen tiles that are rasterized in parallel on an
+ * RangeScheduler: each worker only writes the pixels of its own tiles and reads
+ * arrays gathered on the render thread beforehand (map sprite ids for the view, and
+ * the sorted sprite commands binned per screen tile), so no locking is needed and the
+ * result does not depend on the thread count.
+ * <p>
+ * Render thread only, apart from the workers it starts.
+ */
+public class TileRasterizer {
+
+    private static final int BIN_SIZE = 64; // Screen tile side in pixels
+    private static final int BINS_PER_TASK = 2;
+    private static final int RGB_MASK = 0xFFFFFF; // TYPE_INT_RGB ignores the top byte; keep it 0 like Java2D
+
+    private final SpriteAtlas atlas;
+    private final int[] atlasPixels; // Non-premultiplied ARGB copy of the atlas image
+    private final int atlasWidth;
+    private final int width, height;
+    private final int binCols, binRows;
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final RangeScheduler scheduler;
+    private final RangeScheduler.Task rasterTask = this::rasterize;
+    private final int background;
+    // Per-frame inputs, written on the render thread before the workers start
+    private int viewX, viewY;
+    private int firstRow, firstCol, tileRows, tileCols, layerCount;
+    private int[] mapSprites = new int[0];
+    private int commandCount;
+    private int[] commandSprites = new int[0], commandX = new int[0], commandY = new int[0];
+    private final int[] binStart; // binItems[binStart[b] .. binStart[b + 1]) = commands of bin b, in draw order
+    private int[] binItems = new int[0], binCursor = new int[0];
+
+    /**
+     * @param threads worker count; 1 rasterizes on the calling thread
+     */
+    public TileRasterizer(SpriteAtlas atlas, int width, int height, Color background, int threads) {
+        this.atlas = atlas;
+        BufferedImage atlasImage = atlas.getImage();
+        this.atlasWidth = atlasImage.getWidth();
+        this.atlasPixels = atlasImage.getRGB(0, 0, atlasWidth, atlasImage.getHeight(), null, 0, atlasWidth);
+        this.width = width;
+        this.height = height;
+        this.binCols = (width + BIN_SIZE - 1) / BIN_SIZE;
+        this.binRows = (height + BIN_SIZE - 1) / BIN_SIZE;
+        this.binStart = new int[binCols * binRows + 1];
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.background = background.getRGB() & RGB_MASK;
+        this.scheduler = new RangeScheduler(threads, BINS_PER_TASK, "raster");
+    }
+
+    /**
+     * Rasterizes the map and every command of the sorted queue for the view at (viewX, viewY)
+     * into the frame image, then clears the queue. Queue positions are in world space.
+     */
+    public void render(Map map, RenderQueue queue, int viewX, int viewY) {
+        this.viewX = viewX;
+        this.viewY = viewY;
+        gatherMap(map);
+        binCommands(queue);
+        queue.clear();
+        scheduler.run(rasterTask, binCols * binRows);
+    }
+
+    /**
+     * Draws the last rasterized frame with its top-left corner at (0, 0).
+     */
+    public void present(Graphics g) {
+        g.drawImage(image, 0, 0, null);
+        GameMetrics.DRAW_CALLS.increment();
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    // ===== Gathering (render thread) =====
+
+    private void gatherMap(Map map) {
+        firstCol = Math.floorDiv(viewX, TILE_WIDTH);
+        firstRow = Math.floorDiv(viewY, TILE_HEIGHT);
+        tileCols = Math.floorDiv(viewX + width - 1, TILE_WIDTH) - firstCol + 1;
+        tileRows = Math.floorDiv(viewY + height - 1, TILE_HEIGHT) - firstRow + 1;
+        layerCount = map.getVisibleLayerCount();
+        int size = layerCount * tileRows * tileCols;
+        if (mapSprites.length < size) mapSprites = new int[size];
+        GameMetrics.TILES_DRAWN.add(map.copyVisibleSprites(firstRow, firstCol, tileRows, tileCols, mapSprites));
+    }
+
+    /**
+     * Copies the sorted commands in screen space and lists each under every bin it overlaps
+     * (counting sort by bin, so every bin keeps draw order).
+     */
+    private void binCommands(RenderQueue queue) {
+        commandCount = queue.size();
+        if (commandSprites.length < commandCount) {
+            int capacity = Math.max(commandCount, commandSprites.length * 2);
+            commandSprites = new int[capacity];
+            commandX = new int[capacity];
+            commandY = new int[capacity];
+        }
+        queue.sort();
+        Arrays.fill(binStart, 0);
+        int items = 0, binned = 0;
+        for (int i = 0; i < commandCount; i++) {
+            int spriteId = queue.getSortedSpriteId(i);
+            int x = queue.getSortedX(i) - viewX, y = queue.getSortedY(i) - viewY;
+            commandSprites[i] = spriteId;
+            commandX[i] = x;
+            commandY[i] = y;
+            if (!onScreen(spriteId, x, y)) continue;
+            int bx0 = binCol(x), bx1 = binCol(x + atlas.getWidth(spriteId) - 1);
+            int by0 = binRow(y), by1 = binRow(y + atlas.getHeight(spriteId) - 1);
+            for (int by = by0; by <= by1; by++) {
+                for (int bx = bx0; bx <= bx1; bx++) binStart[by * binCols + bx + 1]++;
+            }
+            items += (by1 - by0 + 1) * (bx1 - bx0 + 1);
+            binned++;
+        }
+        for (int b = 0; b < binCols * binRows; b++) binStart[b + 1] += binStart[b];
+        if (binItems.length < items) binItems = new int[Math.max(items, binItems.length * 2)];
+
+        int bins = binCols * binRows;
+        if (binCursor.length < bins) binCursor = new int[bins];
+        int[] cursor = binCursor; // Fill position per bin
+        System.arraycopy(binStart, 0, cursor, 0, bins);
+        for (int i = 0; i < commandCount; i++) {
+            int spriteId = commandSprites[i];
+            int x = commandX[i], y = commandY[i];
+            if (!onScreen(spriteId, x, y)) continue;
+            int bx0 = binCol(x), bx1 = binCol(x + atlas.getWidth(spriteId) - 1);
+            int by0 = binRow(y), by1 = binRow(y + atlas.getHeight(spriteId) - 1);
+            for (int by = by0; by <= by1; by++) {
+                for (int bx = bx0; bx <= bx1; bx++) binItems[cursor[by * binCols + bx]++] = i;
+            }
+        }
+        GameMetrics.SPRITES_DRAWN.add(binned); // Culled commands are not drawn
+    }
+
+    private boolean onScreen(int spriteId, int x, int y) {
+        return x < width && y < height && x + atlas.getWidth(spriteId) > 0 && y + atlas.getHeight(spriteId) > 0;
+    }
+
+    private int binCol(int x) {
+        return Math.max(0, Math.min(binCols - 1, x / BIN_SIZE));
+    }
+
+    private int binRow(int y) {
+        return Math.max(0, Math.min(binRows - 1, y / BIN_SIZE));
+    }
+
+    // ===== Rasterizing (workers) =====
+
+    /**
+     * Rasterizes bins [from, to): background, map layers, then the bin's sprites.
+     */
+    private void rasterize(int from, int to) {
+        for (int bin = from; bin < to; bin++) {
+            int x0 = (bin % binCols) * BIN_SIZE, y0 = (bin / binCols) * BIN_SIZE;
+            int x1 = Math.min(x0 + BIN_SIZE, width), y1 = Math.min(y0 + BIN_SIZE, height);
+
+            for (int y = y0; y < y1; y++) Arrays.fill(pixels, y * width + x0, y * width + x1, background);
+
+            int col0 = Math.floorDiv(viewX + x0, TILE_WIDTH) - firstCol;
+            int col1 = Math.floorDiv(viewX + x1 - 1, TILE_WIDTH) - firstCol;
+            int row0 = Math.floorDiv(viewY + y0, TILE_HEIGHT) - firstRow;
+            int row1 = Math.floorDiv(viewY + y1 - 1, TILE_HEIGHT) - firstRow;
+            for (int layer = 0; layer < layerCount; layer++) {
+                for (int row = row0; row <= row1; row++) {
+                    int offset = (layer * tileRows + row) * tileCols;
+                    for (int col = col0; col <= col1; col++) {
+                        int spriteId = mapSprites[offset + col];
+                        if (spriteId < 0) continue;
+                        blit(spriteId, (firstCol + col) * TILE_WIDTH - viewX, (firstRow + row) * TILE_HEIGHT - viewY,
+                                x0, y0, x1, y1);
+                    }
+                }
+            }
+
+            for (int item = binStart[bin]; item < binStart[bin + 1]; item++) {
+                int command = binItems[item];
+                blit(commandSprites[command], commandX[command], commandY[command], x0, y0, x1, y1);
+            }
+        }
+    }
+
+    /**
+     * Composites a sprite with top-left at (x, y) over the frame, clipped to [x0, x1) x [y0, y1).
+     */
+    private void blit(int spriteId, int x, int y, int x0, int y0, int x1, int y1) {
+        int left = Math.max(x, x0), right = Math.min(x + atlas.getWidth(spriteId), x1);
+        int top = Math.max(y, y0), bottom = Math.min(y + atlas.getHeight(spriteId), y1);
+        if (left >= right || top >= bottom) return;
+
+        int sourceX = atlas.getSourceX(spriteId) + left - x;
+        int sourceY = atlas.getSourceY(spriteId) + top - y;
+        for (int row = top; row < bottom; row++) {
+            int source = (sourceY + row - top) * atlasWidth + sourceX;
+            int target = row * width + left;
+            for (int end = target + right - left; target < end; target++, source++) {
+                int argb = atlasPixels[source];
+                int alpha = argb >>> 24;
+                if (alpha == 0xFF) {
+                    pixels[target] = argb & RGB_MASK;
+                } else if (alpha != 0) {
+                    pixels[target] = blend(argb, pixels[target], alpha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Source-over of a non-premultiplied colour onto an opaque one (RGB result).
+     */
+    private static int blend(int source, int target, int alpha) {
+        int inverse = 0xFF - alpha;
+        int r = (((source >> 16) & 0xFF) * alpha + ((target >> 16) & 0xFF) * inverse + 127) / 0xFF;
+        int g = (((source >> 8) & 0xFF) * alpha + ((target >> 8) & 0xFF) * inverse + 127) / 0xFF;
+        int b = ((source & 0xFF) * alpha + (target & 0xFF) * inverse + 127) / 0xFF;
+        return r << 16 | g << 8 | b;
+    }
+}
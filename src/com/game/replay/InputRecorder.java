@@ -0,0 +1,94 @@
+package com.game.replay;
+
+import com.game.input_handler.InputAction;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes every input event the game applies, with the tick it was applied on,
+ * plus periodic world state hashes, to a compact binary log (see ReplayFormat).
+ * Replaying the log through ReplayRunner reproduces the session tick for tick.
+ * Game thread only.
+ */
+public class InputRecorder {
+
+    private final Path path;
+    private final DataOutputStream out;
+    private final long startNanos = System.nanoTime();
+    private long lastTick, lastNanos;
+    private boolean finished;
+
+    /**
+     * Creates the log and writes its header: everything besides input that the
+     * simulation depends on, including the exact step (deltaTime) of every tick.
+     *
+     * @throws RuntimeException if the file cannot be created
+     */
+    public InputRecorder(Path path, int updatesPerSecond, float deltaTime, long worldSeed, int npcCount) {
+        this.path = path;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            out.writeInt(ReplayFormat.MAGIC);
+            out.writeShort(ReplayFormat.VERSION);
+            out.writeInt(updatesPerSecond);
+            out.writeInt(Float.floatToIntBits(deltaTime));
+            out.writeLong(worldSeed);
+            out.writeInt(npcCount);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create replay: " + path, e);
+        }
+    }
+
+    /**
+     * Records an event applied at the start of the given tick.
+     */
+    public void record(long tick, InputAction action, boolean pressed, long timeNanos) {
+        long nanos = Math.max(lastNanos, timeNanos - startNanos); // Keeps deltas non-negative
+        try {
+            out.writeByte(ReplayFormat.EVENT);
+            ReplayFormat.writeVarLong(out, tick - lastTick);
+            out.writeByte(action.ordinal() << 1 | (pressed ? 1 : 0));
+            ReplayFormat.writeVarLong(out, nanos - lastNanos);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write replay: " + path, e);
+        }
+        lastTick = tick;
+        lastNanos = nanos;
+    }
+
+    /**
+     * Records the world state hash after the given number of ticks.
+     */
+    public void checksum(long tick, long stateHash) {
+        writeTickRecord(ReplayFormat.CHECKSUM, tick, stateHash);
+    }
+
+    /**
+     * Writes the end record and closes the log. Further calls are ignored.
+     */
+    public void finish(long totalTicks, long stateHash) {
+        if (finished) return;
+        finished = true;
+        writeTickRecord(ReplayFormat.END, totalTicks, stateHash);
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write replay: " + path, e);
+        }
+    }
+
+    private void writeTickRecord(byte type, long tick, long stateHash) {
+        try {
+            out.writeByte(type);
+            ReplayFormat.writeVarLong(out, tick - lastTick);
+            out.writeLong(stateHash);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write replay: " + path, e);
+        }
+        lastTick = tick;
+    }
+}
@@ -0,0 +1,56 @@
+package com.game.replay;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary layout of an input recording (.grec), shared by InputRecorder and ReplayLog.
+ * <pre>
+ * header : int magic "GREC", short version, int updatesPerSecond, int stepBits (v2+), long worldSeed,
+ *          int npcCount
+ * records: byte type, then
+ *   EVENT    varlong tickDelta, byte action ordinal << 1 | pressed, varlong nanosDelta
+ *   CHECKSUM varlong tickDelta, long stateHash
+ *   END      varlong tickDelta, long stateHash (tick = total ticks simulated)
+ * </pre>
+ * Ticks and event times are stored as deltas from the previous record (varints),
+ * so a typical event costs 3-6 bytes. Event times are nanoseconds since recording began.
+ * stepBits is Float.floatToIntBits of the exact deltaTime every tick was simulated with;
+ * version 1 logs lack it and are replayed with GameLoop.fixedDelta(updatesPerSecond).
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x47524543; // "GREC"
+    static final short VERSION = 2;
+    static final short VERSION_WITHOUT_STEP = 1;
+    static final String EXTENSION = ".grec";
+
+    static final byte END = 0;
+    static final byte EVENT = 1;
+    static final byte CHECKSUM = 2;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes a non-negative value 7 bits at a time, low bits first.
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,182 @@
+package com.game.replay;
+
+import com.game.input_handler.InputAction;
+import com.game.window.GameLoop;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recording read back into memory: header, events by tick and state hashes by tick.
+ * Events and checksums are kept in parallel primitive arrays, ordered by tick.
+ */
+public class ReplayLog {
+
+    private static final InputAction[] ACTIONS = InputAction.values();
+
+    private final int updatesPerSecond;
+    private final float deltaTime; // Exact step the recording was simulated with
+    private final long worldSeed;
+    private final int npcCount;
+    // Events
+    private int eventCount;
+    private long[] eventTicks = new long[64];
+    private int[] eventCodes = new int[64]; // action ordinal << 1 | pressed
+    private long[] eventNanos = new long[64];
+    // State hashes (the END record is the last one)
+    private int checksumCount;
+    private long[] checksumTicks = new long[16];
+    private long[] checksumHashes = new long[16];
+    private long totalTicks = -1; // -1 = recording was cut off before END
+
+    private ReplayLog(int updatesPerSecond, float deltaTime, long worldSeed, int npcCount) {
+        this.updatesPerSecond = updatesPerSecond;
+        this.deltaTime = deltaTime;
+        this.worldSeed = worldSeed;
+        this.npcCount = npcCount;
+    }
+
+    /**
+     * Reads a whole recording. A log cut off mid-record (crash, kill) keeps what was complete.
+     *
+     * @throws IOException if the file is missing, not a recording or of another version
+     */
+    public static ReplayLog read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != ReplayFormat.MAGIC) throw new IOException("Not a replay: " + path);
+            short version = in.readShort();
+            if (version != ReplayFormat.VERSION && version != ReplayFormat.VERSION_WITHOUT_STEP) {
+                throw new IOException("Unsupported replay version " + version);
+            }
+
+            int updatesPerSecond = in.readInt();
+            float deltaTime = version == ReplayFormat.VERSION_WITHOUT_STEP
+                    ? GameLoop.fixedDelta(updatesPerSecond)
+                    : Float.intBitsToFloat(in.readInt());
+            ReplayLog log = new ReplayLog(updatesPerSecond, deltaTime, in.readLong(), in.readInt());
+            long tick = 0, nanos = 0;
+            try {
+                while (log.totalTicks < 0) {
+                    byte type = in.readByte();
+                    tick += ReplayFormat.readVarLong(in);
+                    switch (type) {
+                        case ReplayFormat.EVENT -> {
+                            int code = in.readUnsignedByte();
+                            nanos += ReplayFormat.readVarLong(in);
+                            if ((code >>> 1) >= ACTIONS.length) throw new IOException("Unknown action " + (code >>> 1));
+                            log.addEvent(tick, code, nanos);
+                        }
+                        case ReplayFormat.CHECKSUM -> log.addChecksum(tick, in.readLong());
+                        case ReplayFormat.END -> {
+                            log.addChecksum(tick, in.readLong());
+                            log.totalTicks = tick;
+                        }
+                        default -> throw new IOException("Unknown record type " + type);
+                    }
+                }
+            } catch (EOFException e) {
+                // Truncated: replay up to the last complete record
+            }
+            return log;
+        }
+    }
+
+    private void addEvent(long tick, int code, long nanos) {
+        if (eventCount == eventTicks.length) {
+            eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+            eventCodes = Arrays.copyOf(eventCodes, eventCount * 2);
+            eventNanos = Arrays.copyOf(eventNanos, eventCount * 2);
+        }
+        eventTicks[eventCount] = tick;
+        eventCodes[eventCount] = code;
+        eventNanos[eventCount] = nanos;
+        eventCount++;
+    }
+
+    private void addChecksum(long tick, long hash) {
+        if (checksumCount == checksumTicks.length) {
+            checksumTicks = Arrays.copyOf(checksumTicks, checksumCount * 2);
+            checksumHashes = Arrays.copyOf(checksumHashes, checksumCount * 2);
+        }
+        checksumTicks[checksumCount] = tick;
+        checksumHashes[checksumCount] = hash;
+        checksumCount++;
+    }
+
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Returns the exact deltaTime every recorded tick was simulated with.
+     */
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    public int getNpcCount() {
+        return npcCount;
+    }
+
+    /**
+     * Returns ticks the recorded session ran, or the last recorded tick if it was cut off.
+     */
+    public long getTotalTicks() {
+        if (totalTicks >= 0) return totalTicks;
+        long last = 0;
+        if (eventCount > 0) last = eventTicks[eventCount - 1] + 1;
+        if (checksumCount > 0) last = Math.max(last, checksumTicks[checksumCount - 1]);
+        return last;
+    }
+
+    public boolean isComplete() {
+        return totalTicks >= 0;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public long getEventTick(int index) {
+        return eventTicks[index];
+    }
+
+    public InputAction getEventAction(int index) {
+        return ACTIONS[eventCodes[index] >>> 1];
+    }
+
+    public boolean isEventPressed(int index) {
+        return (eventCodes[index] & 1) != 0;
+    }
+
+    /**
+     * Returns when the event happened, in nanoseconds since recording began.
+     */
+    public long getEventNanos(int index) {
+        return eventNanos[index];
+    }
+
+    public int getChecksumCount() {
+        return checksumCount;
+    }
+
+    /**
+     * Returns the tick count after which the hash was taken.
+     */
+    public long getChecksumTick(int index) {
+        return checksumTicks[index];
+    }
+
+    public long getChecksumHash(int index) {
+        return checksumHashes[index];
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.replay;
+
+import com.game.window.GameWorld;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Replays a recording headless (no window) as fast as the simulation runs,
+ * checks the world state hash at every recorded checkpoint and reports tick timing.
+ * Exits with status 1 on the first divergence, so scripted runs catch simulation drift.
+ * <p>
+ * Usage: java -Djava.awt.headless=true com.game.replay.ReplayRunner session.grec
+ * <p>
+ * Replays match as long as the chunks entities touch were loaded when recording
+ * (always true for map1, which is preloaded whole); collision treats missing chunks as solid.
+ */
+public class ReplayRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ReplayRunner <recording" + ReplayFormat.EXTENSION + ">");
+            System.exit(2);
+        }
+        ReplayLog log = ReplayLog.read(Path.of(args[0]));
+        if (!log.isComplete()) {
+            System.out.println("Recording was cut off; replaying the complete part");
+        }
+        System.exit(run(log) ? 0 : 1);
+    }
+
+    /**
+     * Replays the whole log into a fresh world.
+     *
+     * @return true if every checkpoint matched
+     */
+    public static boolean run(ReplayLog log) {
+        GameWorld world = new GameWorld(log.getNpcCount(), log.getWorldSeed());
+        float deltaTime = log.getDeltaTime(); // Exactly the recorded step, never recomputed
+        long totalTicks = log.getTotalTicks();
+
+        int nextEvent = 0, nextChecksum = 0, matched = 0;
+        long maxTickNanos = 0;
+        long start = System.nanoTime();
+        for (long tick = 0; tick < totalTicks; tick++) {
+            // Queue this tick's events stamped with the tick itself, then drain exactly those
+            for (; nextEvent < log.getEventCount() && log.getEventTick(nextEvent) == tick; nextEvent++) {
+                world.getInputQueue().offer(log.getEventAction(nextEvent), log.isEventPressed(nextEvent), tick);
+            }
+            long tickStart = System.nanoTime();
+            world.update(deltaTime, tick);
+            maxTickNanos = Math.max(maxTickNanos, System.nanoTime() - tickStart);
+
+            for (; nextChecksum < log.getChecksumCount()
+                    && log.getChecksumTick(nextChecksum) == world.getTickCount(); nextChecksum++) {
+                if (world.computeStateHash() != log.getChecksumHash(nextChecksum)) {
+                    System.out.printf("DIVERGED after tick %,d (checkpoint %d of %d)%n",
+                            world.getTickCount(), nextChecksum + 1, log.getChecksumCount());
+                    return false;
+                }
+                matched++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Replayed %,d ticks (%.1fs of game time, %d inputs) in %.2fs: %,.0f ticks/s,"
+                        + " avg %.3fms, max %.3fms per tick%n",
+                totalTicks, totalTicks * deltaTime, log.getEventCount(), elapsed / 1e9,
+                totalTicks / (elapsed / 1e9), elapsed / 1e6 / Math.max(1, totalTicks), maxTickNanos / 1e6);
+        System.out.printf("State matches at all %d checkpoints%n", matched);
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.game.window;
+
+/**
+ * Present latency and dropped frame counters for a GameRenderer.
+ * Written by the game loop thread only; safe to read from any thread.
+ */
+public class FrameStats {
+
+    private final long targetFrameNanos; // 0 = uncapped, no frame budget to miss
+    private long lastPresentEnd;
+    // Counters
+    private volatile long presentedFrames;
+    private volatile long droppedFrames;
+    private volatile long lastPresentNanos;
+    private volatile long maxPresentNanos;
+    private volatile long totalPresentNanos;
+
+    public FrameStats(int framesPerSecond) {
+        this.targetFrameNanos = framesPerSecond > 0 ? 1_000_000_000L / framesPerSecond : 0;
+    }
+
+    /**
+     * Records one presented frame.
+     * A frame counts as dropped if its contents were lost or if it arrived
+     * more than 1.5 frame budgets after the previous one (a missed slot).
+     */
+    public void recordPresent(long startNanos, long endNanos, boolean contentsLost) {
+        long latency = endNanos - startNanos;
+        boolean missedSlot = targetFrameNanos > 0 && lastPresentEnd != 0
+                && endNanos - lastPresentEnd > targetFrameNanos * 3 / 2;
+
+        presentedFrames++;
+        if (contentsLost || missedSlot) droppedFrames++;
+        lastPresentNanos = latency;
+        totalPresentNanos += latency;
+        if (latency > maxPresentNanos) maxPresentNanos = latency;
+        lastPresentEnd = endNanos;
+    }
+
+    public long getPresentedFrames() {
+        return presentedFrames;
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    public long getLastPresentNanos() {
+        return lastPresentNanos;
+    }
+
+    public long getMaxPresentNanos() {
+        return maxPresentNanos;
+    }
+
+    /**
+     * Returns mean present latency over all frames, in nanoseconds.
+     */
+    public long getAveragePresentNanos() {
+        long frames = presentedFrames;
+        return frames == 0 ? 0 : totalPresentNanos / frames;
+    }
+}
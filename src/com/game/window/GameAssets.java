@@ -0,0 +1,42 @@
+package com.game.window;
+
+import com.game.asset_helper.AssetHandle;
+import com.game.asset_helper.AssetManager;
+import com.game.asset_helper.SpriteLoader;
+import com.game.world.ChunkSource;
+import com.game.world.Map;
+
+/**
+ * Everything GameWorld needs from disk: the sprite atlas and the map data.
+ * Sheets are decoded and the map is opened in parallel.
+ */
+public class GameAssets {
+
+    private static final int START_MAP = 1;
+
+    private final SpriteLoader spriteLoader;
+    private final ChunkSource mapSource;
+
+    public GameAssets(SpriteLoader spriteLoader, ChunkSource mapSource) {
+        this.spriteLoader = spriteLoader;
+        this.mapSource = mapSource;
+    }
+
+    /**
+     * Starts loading every asset; the handle completes when all are ready.
+     */
+    public static AssetHandle<GameAssets> load(AssetManager assets) {
+        return assets.combine("game assets",
+                SpriteLoader.load(assets),
+                assets.load("map" + START_MAP, () -> Map.openMapData(START_MAP)),
+                GameAssets::new);
+    }
+
+    public SpriteLoader getSpriteLoader() {
+        return spriteLoader;
+    }
+
+    public ChunkSource getMapSource() {
+        return mapSource;
+    }
+}
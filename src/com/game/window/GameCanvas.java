@@ -0,0 +1,89 @@
+package com.game.window;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+import static com.game.constants.GameConfig.FRAMES_PER_SECOND;
+import static com.game.constants.GameConstant.GAME_HEIGHT;
+import static com.game.constants.GameConstant.GAME_WIDTH;
+
+/**
+ * Active rendering backend: draws straight into a BufferStrategy from the game thread.
+ * Uses page flipping when the platform supports it, blitting otherwise.
+ * The world is rendered once per frame at internal resolution and scaled to the
+ * canvas size by a ScaledPresenter.
+ */
+public class GameCanvas extends Canvas implements GameRenderer {
+
+    private final int bufferCount; // 2 = double, 3 = triple buffering
+    private final FrameStats frameStats = new FrameStats(FRAMES_PER_SECOND);
+    private final ScaledPresenter presenter;
+    private volatile boolean peerChanged; // Set when the window was re-created (full-screen toggle)
+
+    public GameCanvas(GameWorld gameWorld, int bufferCount) {
+        this.bufferCount = bufferCount;
+        this.presenter = new ScaledPresenter(gameWorld, this);
+        setBackground(GamePanel.BACKGROUND_COLOR);
+        setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
+        setIgnoreRepaint(true); // We paint ourselves, AWT repaints would only flicker
+        setFocusable(true);
+    }
+
+    @Override
+    public Component getComponent() {
+        return this;
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        peerChanged = true; // Buffers of the old peer are gone
+    }
+
+    /**
+     * Renders the world, scales it into the back buffer and flips it.
+     * Re-blits if the buffer was restored or lost while drawing.
+     * Skips the frame if the window is being re-created meanwhile.
+     */
+    @Override
+    public void present() {
+        if (!isDisplayable()) return; // Frame not shown yet, or being re-created
+        try {
+            BufferStrategy strategy = getBufferStrategy();
+            if (strategy == null || peerChanged) {
+                peerChanged = false;
+                createBufferStrategy(bufferCount);
+                strategy = getBufferStrategy();
+            }
+
+            long start = System.nanoTime();
+            presenter.renderWorld();
+            boolean contentsLost = false;
+            boolean lost;
+            do {
+                do {
+                    Graphics g = strategy.getDrawGraphics();
+                    try {
+                        presenter.present(g, getWidth(), getHeight());
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+
+                strategy.show();
+                lost = strategy.contentsLost();
+                contentsLost |= lost;
+            } while (lost);
+
+            Toolkit.getDefaultToolkit().sync(); // Flush the pipeline (needed on Linux)
+            frameStats.recordPresent(start, System.nanoTime(), contentsLost);
+        } catch (IllegalStateException e) {
+            // Peer disposed mid-frame (full-screen toggle on the EDT); next frame recreates buffers
+        }
+    }
+
+    @Override
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+}
@@ -1,7 +1,9 @@
 package com.game.window;
 
 import javax.swing.*;
+import java.awt.*;
 
+import static com.game.constants.GameConfig.FULLSCREEN;
 import static com.game.constants.GameConstant.*;
 
 public class GameFrame {
@@ -15,23 +17,25 @@ public class GameFrame {
      * COMPLETE FRAMEWORK FLOW:
      * 1. GameFrame constructor ← YOU ARE HERE
      * 2. Creates JFrame (window frame/border/titlebar)
-     * 3. Adds GamePanel (game drawing area) inside frame
+     * 3. Adds the renderer component (GameCanvas or GamePanel) inside frame
      * 4. pack() → "Make window exactly fit my contents!"
      * 5. Configure window properties
      * 6. Show window → Game starts!
      */
     private JFrame jframe;
+    private final Component gameComponent;
 
-    public GameFrame(GamePanel gamePanel) {
+    public GameFrame(Component gameComponent) {
+        this.gameComponent = gameComponent;
         // 🖼️ STEP 1: CREATE EMPTY WINDOW FRAME
         // JFrame = Window with title bar, borders, close button
         // GAME_TITLE comes from constants (like "My Awesome Game")
         jframe = new JFrame(GAME_TITLE);
 
-        // 🗂️ STEP 2: ADD GAME PANEL INSIDE FRAME
-        // GamePanel becomes the "content" of the window
-        // BorderLayout automatically fills entire window with panel
-        jframe.add(gamePanel);
+        // 🗂️ STEP 2: ADD GAME COMPONENT INSIDE FRAME
+        // GameCanvas/GamePanel becomes the "content" of the window
+        // BorderLayout automatically fills entire window with it
+        jframe.add(gameComponent);
 
         // 📐 STEP 3: SIZE WINDOW PERFECTLY (MAGIC HAPPENS HERE!)
         // pack() asks GamePanel: "How big do you want?"
@@ -40,10 +44,11 @@ public class GameFrame {
         // Without pack(): Window would be tiny/default size
         jframe.pack();
 
-        // 🔒 STEP 4: LOCK WINDOW SIZE
-        // Players can't resize → Game canvas stays exact size
-        // Prevents rendering issues from changing window size
-        jframe.setResizable(false);
+        // ↔️ STEP 4: LET THE PLAYER RESIZE
+        // The game always renders at GAME_WIDTH x GAME_HEIGHT into one back buffer
+        // ScaledPresenter blows it up to any window size (integer scale + black bars)
+        jframe.setResizable(true);
+        jframe.setMinimumSize(jframe.getSize()); // Below 1x pixels would get dropped
 
         // ❌ STEP 5: HANDLE CLOSE BUTTON
         // When player clicks X → Entire program exits cleanly
@@ -59,5 +64,47 @@ public class GameFrame {
         // Window appears on screen, ready for game loop
         // GamePanel now receives input, paintComponent runs
         jframe.setVisible(true);
+
+        // ⌨️ STEP 8: GRAB KEYBOARD FOCUS
+        // A Canvas does not get focus automatically like a JPanel often does
+        gameComponent.requestFocus();
+
+        // 🖥️ STEP 9: OPTIONAL FULL SCREEN (-Dgame.fullscreen=true, or F11 later)
+        if (FULLSCREEN) {
+            setFullScreen(true);
+        }
+    }
+
+    /**
+     * ===== FULL-SCREEN EXCLUSIVE MODE =====
+     * The window takes over the whole monitor (no title bar, no desktop compositing).
+     * Title bar on/off can only change while the window is not displayable → dispose first.
+     * The game loop keeps running: GameCanvas skips frames until the window is back.
+     * EDT only.
+     */
+    public void setFullScreen(boolean fullScreen) {
+        GraphicsDevice device = jframe.getGraphicsConfiguration().getDevice();
+        if (fullScreen == (device.getFullScreenWindow() == jframe)) return;
+        if (fullScreen && !device.isFullScreenSupported()) {
+            System.out.println("Full-screen exclusive mode not supported on " + device.getIDstring());
+            return;
+        }
+
+        jframe.dispose();
+        jframe.setUndecorated(fullScreen);
+        device.setFullScreenWindow(fullScreen ? jframe : null);
+        if (!fullScreen) {
+            jframe.pack();
+            jframe.setLocationRelativeTo(null);
+        }
+        jframe.setVisible(true);
+        gameComponent.requestFocus();
+    }
+
+    /**
+     * Switches between windowed and full-screen exclusive mode (F11). EDT only.
+     */
+    public void toggleFullScreen() {
+        setFullScreen(jframe.getGraphicsConfiguration().getDevice().getFullScreenWindow() != jframe);
     }
 }
@@ -1,13 +1,22 @@
 package com.game.window;
 
+import com.game.asset_helper.AssetManager;
+import com.game.constants.GameConfig;
 import com.game.input_handler.KeyboardHandler;
+import com.game.metrics.GcMonitor;
+import com.game.replay.InputRecorder;
+
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.nio.file.Path;
 
 public class GameInitializer {
 
     // ===== GAME ARCHITECTURE - All 5 Core Components =====
+    private AssetManager assetManager; // 📦 Background asset loading
     private GameWorld gameWorld;     // 🧠 Game logic, positions, enemies
     private GameFrame gameFrame;     // 🖼️ Visible window + borders
-    private GamePanel gamePanel;     // 🎨 Drawing canvas (paintComponent)
+    private GameRenderer gameRenderer; // 🎨 Drawing surface (GameCanvas or GamePanel)
     private GameLoop gameLoop;       // ⏰ 60fps update/render thread
     private KeyboardHandler keyboardHandler;  // ⌨️ Arrow key input → movement
 
@@ -20,44 +29,88 @@ public class GameInitializer {
      * CRITICAL EXECUTION ORDER (change this = game breaks):
      * <p>
      * 1️⃣ GameWorld FIRST → Must exist before anything references it
-     * 2️⃣ GamePanel SECOND → Needs world for rendering
-     * 3️⃣ GameFrame THIRD → Needs panel for sizing/display
+     * 2️⃣ GameRenderer SECOND → Needs world for rendering
+     * 3️⃣ GameFrame THIRD → Needs renderer component for sizing/display
      * 4️⃣ Input FOURTH → Needs world for up()/down() calls
      * 5️⃣ GameLoop LAST → Needs everything running first
      */
     public GameInitializer() {
 
-        // ===== PHASE 1: CORE GAME ENGINE (3 seconds total) =====
-        // 🧠 STEP 1: CREATE GAME BRAIN (0.001s)
-        // Initializes x=0,y=0,speed=5 → Blue square ready
-        gameWorld = new GameWorld();
+        // ===== PHASE 1: CORE GAME ENGINE =====
+        // 🧠 STEP 1: CREATE GAME BRAIN (returns at once)
+        // Sprite sheets and map load in parallel on asset-loader threads (-Dgame.assetThreads)
+        // Until they are in, the world draws a loading screen and its updates do nothing
+        assetManager = new AssetManager(GameConfig.ASSET_THREADS);
+        gameWorld = new GameWorld(assetManager, GameConfig.NPC_COUNT, GameConfig.WORLD_SEED);
 
         // 🎨 STEP 2: CREATE DRAWING SURFACE (0.001s)
-        // setPreferredSize(960,640), setFocusable(true)
-        // Now ready to receive paintComponent calls
-        gamePanel = new GamePanel(gameWorld);
+        // -Dgame.renderer=canvas → GameCanvas, active rendering via BufferStrategy (default)
+        // -Dgame.renderer=panel  → GamePanel, Swing paintImmediately() fallback
+        gameRenderer = GameConfig.RENDERER.equalsIgnoreCase("panel")
+                ? new GamePanel(gameWorld)
+                : new GameCanvas(gameWorld, GameConfig.BUFFER_COUNT);
 
         // 🖼️ STEP 3: CREATE WINDOW (0.5s)
-        // jframe.pack() → Uses panel's 960×640 preferredSize!
+        // jframe.pack() → Uses renderer's preferredSize!
         // Window appears centered on screen
-        gameFrame = new GameFrame(gamePanel);
+        gameFrame = new GameFrame(gameRenderer.getComponent());
 
         // ===== PHASE 2: INPUT SYSTEM (0.001s) =====
         // ⌨️ STEP 4: CONNECT KEYBOARD
-        // KeyboardHandler calls gameWorld.up()/down()/left()/right()
-        // gamePanel receives arrow key events directly
-        keyboardHandler = new KeyboardHandler(gameWorld);
-        gamePanel.addKeyListener(keyboardHandler);
+        // KeyboardHandler queues key presses → game thread applies them each tick
+        // The renderer component receives arrow key events directly
+        keyboardHandler = new KeyboardHandler(gameWorld.getInputQueue());
+        gameRenderer.getComponent().addKeyListener(keyboardHandler);
+
+        // 📊 STEP 4b: PERFORMANCE OVERLAY (F3, or -Dgame.overlay=true) + FULL SCREEN (F11)
+        // Not game input → toggled right here on the EDT, never queued or recorded
+        gameRenderer.getComponent().addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_F3) gameWorld.getOverlay().toggle();
+                if (e.getKeyCode() == KeyEvent.VK_F11) gameFrame.toggleFullScreen();
+            }
+        });
+        GcMonitor.install(); // GC pauses → overlay
 
         // ===== PHASE 3: GAME LOOP (∞ FOREVER) =====
         // ⏰ STEP 5: CREATE 60FPS ENGINE
         // Separate thread: update(δ) → render() → 16ms repeat
-        gameLoop = new GameLoop(gamePanel, gameWorld);
+        gameLoop = new GameLoop(gameRenderer, gameWorld);
+
+        // 🎬 STEP 5b: OPTIONAL INPUT RECORDING (-Dgame.record=session.grec)
+        // Replay later with: java com.game.replay.ReplayRunner session.grec
+        if (GameConfig.RECORD_PATH != null) {
+            startRecording(Path.of(GameConfig.RECORD_PATH));
+        }
 
         // 🚀 STEP 6: LAUNCH GAME (separate thread starts instantly)
         // Now: 60fps blue square + arrow key movement = COMPLETE GAME!
         gameLoop.start();
     }
+
+    /**
+     * ===== INPUT RECORDING =====
+     * Only the FIXED loop is deterministic (same step every tick), so VARIABLE is not recorded.
+     * The log is closed by a shutdown hook once the loop has stopped → window X still saves it.
+     */
+    private void startRecording(Path path) {
+        if (GameConfig.LOOP_MODE.equalsIgnoreCase("variable")) {
+            System.out.println("Recording needs -Dgame.loop=fixed, not recording");
+            return;
+        }
+
+        InputRecorder recorder = new InputRecorder(path, GameConfig.UPDATES_PER_SECOND,
+                GameLoop.fixedDelta(GameConfig.UPDATES_PER_SECOND),
+                GameConfig.WORLD_SEED, GameConfig.NPC_COUNT);
+        gameWorld.setInputRecorder(recorder);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            gameLoop.stop(); // No more ticks → safe to finish from this thread
+            recorder.finish(gameWorld.getTickCount(), gameWorld.computeStateHash());
+            System.out.println("Recorded " + gameWorld.getTickCount() + " ticks to " + path);
+        }, "replay-writer"));
+        System.out.println("Recording input to " + path);
+    }
 }
 
 /**
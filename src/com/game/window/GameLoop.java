@@ -1,25 +1,96 @@
 package com.game.window;
 
+import com.game.constants.GameConfig;
+import com.game.metrics.GameMetrics;
+import com.game.profiling.FrameEvent;
+import com.game.profiling.FrameTimer;
+import com.game.profiling.TickEvent;
+import com.game.profiling.TickTimer;
+
 public class GameLoop implements Runnable {
 
+    /**
+     * ===== SCHEDULER MODES =====
+     * FIXED    → Simulation advances in constant steps (deterministic), render interpolates
+     * VARIABLE → Legacy behaviour: one update per frame with measured delta
+     */
+    public enum Mode {
+        FIXED, VARIABLE
+    }
+
+    // ⏱️ FRAME PACING
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SPIN_THRESHOLD_NANOS = 2_000_000L; // Spin the last 2ms, sleep before that
+    private static final int MAX_UPDATES_PER_FRAME = 5;            // Stops the "spiral of death" after a stall
+
     // ===== GAME REFERENCES - Connect everything together =====
-    private GamePanel gamePanel;    // Draws graphics (calls paintComponent)
+    private GameRenderer gameRenderer; // Draws frames (GameCanvas or GamePanel)
     private GameWorld gameWorld;    // Game logic (positions, enemies, physics)
-    private Thread gameThread;      // Separate thread for 60fps game loop
+    private Thread gameThread;      // Separate thread for 60fps game loop (simulation only when split)
+    private Thread renderThread;    // Draws the newest snapshot (split mode only)
 
     // 🔒 THREAD-SAFE GAME STATE
     private volatile boolean running;
     // 'volatile': Ensures ALL threads see the SAME value instantly
     // Without it: One thread sees true, another sees false → Chaos!
 
+    // ⚙️ SCHEDULER SETTINGS
+    private final Mode mode;
+    private final long updateIntervalNanos; // Fixed simulation step (e.g. 16.6ms @ 60Hz)
+    private final long frameIntervalNanos;  // Target frame time (0 = uncapped)
+    private final float fixedDelta;         // Same step in seconds, passed to update()
+    private final boolean separateRenderThread; // Simulation and rendering on their own threads
+
+    // 📊 TIMING STATS
+    private final TickStats tickStats = new TickStats();
+    private final TickTimer tickTimer = new TickTimer();    // Update thread only
+    private final FrameTimer frameTimer = new FrameTimer(); // Render thread only
+    private long lastPresentEnd; // Render thread only → frame time histogram
+
     /**
      * ===== CONSTRUCTOR - Wire up Game Components =====
      * Runs ONCE during game startup.
-     * Stores references to panel/world for later use in game loop.
+     * Stores references to renderer/world for later use in game loop.
+     * Rates come from GameConfig (-Dgame.loop, -Dgame.ups, -Dgame.fps).
+     */
+    public GameLoop(GameRenderer gameRenderer, GameWorld gameWorld) {
+        this(gameRenderer, gameWorld,
+                GameConfig.LOOP_MODE.equalsIgnoreCase("variable") ? Mode.VARIABLE : Mode.FIXED,
+                GameConfig.UPDATES_PER_SECOND, GameConfig.FRAMES_PER_SECOND, GameConfig.RENDER_THREAD);
+    }
+
+    /**
+     * ===== CONSTRUCTOR - Explicit Scheduler Settings =====
+     * updatesPerSecond → Simulation rate in FIXED mode (e.g. 60 or 120)
+     * framesPerSecond  → Render cap in both modes (0 = render as fast as possible)
+     * renderThread     → FIXED mode only: draw on a second thread from published snapshots
      */
-    public GameLoop(GamePanel gamePanel, GameWorld gameWorld) {
-        this.gamePanel = gamePanel;
+    public GameLoop(GameRenderer gameRenderer, GameWorld gameWorld, Mode mode,
+                    int updatesPerSecond, int framesPerSecond, boolean renderThread) {
+        if (updatesPerSecond <= 0) {
+            throw new IllegalArgumentException("updatesPerSecond must be positive: " + updatesPerSecond);
+        }
+        if (framesPerSecond < 0) {
+            throw new IllegalArgumentException("framesPerSecond must not be negative: " + framesPerSecond);
+        }
+
+        this.gameRenderer = gameRenderer;
         this.gameWorld = gameWorld;
+        this.mode = mode;
+        this.updateIntervalNanos = NANOS_PER_SECOND / updatesPerSecond;
+        this.frameIntervalNanos = framesPerSecond == 0 ? 0 : NANOS_PER_SECOND / framesPerSecond;
+        this.fixedDelta = fixedDelta(updatesPerSecond);
+        this.separateRenderThread = renderThread && mode == Mode.FIXED;
+    }
+
+    /**
+     * ===== THE ONE FIXED STEP =====
+     * Seconds passed to update() per tick in FIXED mode: the whole-nanosecond interval, as a float.
+     * Anything that must simulate exactly like the game (replays, headless runs) uses this,
+     * never 1f / ups → those differ in the last bit at 60 UPS, and replays diverge.
+     */
+    public static float fixedDelta(int updatesPerSecond) {
+        return (NANOS_PER_SECOND / updatesPerSecond) / (float) NANOS_PER_SECOND;
     }
 
     /**
@@ -33,6 +104,7 @@ public class GameLoop implements Runnable {
      * 1. Check if already running → Skip if true
      * 2. Create dedicated GameLoop thread
      * 3. Start thread → run() method begins 60fps loop!
+     * 4. Split mode: also start the render thread → renderLoop()
      */
     public synchronized void start() {
         if (running) {
@@ -45,8 +117,13 @@ public class GameLoop implements Runnable {
          * Thread will call this.run() when started
          */
         running = true;
-        gameThread = new Thread(this); // this: GameLoop object
+        gameThread = new Thread(this, "game-loop"); // this: GameLoop object
         gameThread.start();            // Launches separate game thread!
+
+        if (separateRenderThread) {
+            renderThread = new Thread(this::renderLoop, "game-render");
+            renderThread.start();
+        }
     }
 
     /**
@@ -66,72 +143,186 @@ public class GameLoop implements Runnable {
         running = false;  // Signal game loop to exit
         try {
             gameThread.join();  // Wait for game thread to finish
+            if (renderThread != null) renderThread.join();
         } catch (InterruptedException e) {
             throw new RuntimeException(e);  // Rethrow as unchecked
         }
     }
 
     /**
-     * ===== STEP 3: MAIN GAME LOOP (60fps) - HEART OF THE GAME =====
+     * ===== STEP 3: MAIN GAME LOOP - HEART OF THE GAME =====
      * Runs in SEPARATE THREAD → Doesn't freeze UI window!
      * <p>
-     * COMPLETE 60FPS CYCLE (16ms per frame):
-     * 1. Calculate deltaTime (real time since last frame)
-     * 2. update(delta) → Move enemies, check collisions
-     * 3. render() → Draw new frame
-     * 4. Count FPS → Print every second
-     * 5. Repeat forever until running=false
+     * FIXED MODE CYCLE:
+     * 1. Add real elapsed time to the accumulator
+     * 2. update(step) as many whole steps as fit → Same inputs = same result
+     * 3. Publish a snapshot of the new state (stamped with the time it represents)
+     * 4. render() → draws that snapshot, interpolating by the leftover fraction of a step
+     * 5. Count FPS/UPS → Print every second (only with -Dgame.logStats=true)
+     * 6. Wait (sleep, then spin) until the next frame is due
+     * <p>
+     * SPLIT MODE (-Dgame.renderThread=true, the default): this thread only does 1-3 and 5,
+     * then sleeps until the next step; renderLoop() does 4 and 6 on its own thread.
      */
     @Override
     public void run() {
         // 🕐 PRECISE TIMING SETUP
-        long lastTime = System.nanoTime();     // Last frame time (nanoseconds)
-        long timer = System.currentTimeMillis(); // FPS timer (milliseconds)
-        int frames = 0;                        // Frames this second
+        long lastTime = System.nanoTime();     // Last loop iteration (nanoseconds)
+        long nextFrameTime = lastTime;         // When the next frame should start
+        long accumulator = 0;                  // Unsimulated time (nanoseconds)
+        long timer = lastTime;                 // FPS timer
+        long lastFrames = 0;                   // Presented frames at the last print
+        long lastTicks = 0;                    // Updates at the last print
 
         while (running) {  // Main game loop!
-            // ⏱️ CALCULATE DELTATIME (frame-rate independent movement)
             long now = System.nanoTime();
-            float delta = (now - lastTime) / 1_000_000_000.0f; // Seconds
+            long elapsed = now - lastTime;
             lastTime = now;
 
-            // 🔄 STEP 3a: UPDATE GAME LOGIC
-            update(delta);  // Move enemies, player physics, collisions
+            if (mode == Mode.FIXED) {
+                // 🔄 STEP 3a: CONSUME ELAPSED TIME IN FIXED STEPS
+                accumulator += Math.min(elapsed, updateIntervalNanos * MAX_UPDATES_PER_FRAME);
+                boolean stepped = false;
+                while (accumulator >= updateIntervalNanos) {
+                    // This step ends at now - (accumulator - step): input up to then belongs to it
+                    update(fixedDelta, now - accumulator + updateIntervalNanos);
+                    accumulator -= updateIntervalNanos;
+                    stepped = true;
+                }
+
+                // 📸 STEP 3b: PUBLISH THE NEW STATE
+                // The state is "at" now - accumulator, so render interpolates from there
+                if (stepped) gameWorld.publishSnapshot(now - accumulator, updateIntervalNanos);
 
-            // 🖼️ STEP 3b: RENDER NEW FRAME
-            render();       // Draw everything at new positions
+                // 🖼️ STEP 3c: RENDER BETWEEN THE LAST TWO STATES (same thread only)
+                if (!separateRenderThread) render();
+            } else {
+                update(elapsed / (float) NANOS_PER_SECOND, now);
+                gameWorld.publishSnapshot(now, 0);
+                render();
+            }
+
+            // 📊 STEP 3d: FPS/UPS COUNTER (prints every second, -Dgame.logStats=true; F3 shows it in-game)
+            if (GameConfig.LOG_STATS && now - timer >= NANOS_PER_SECOND) {
+                FrameStats stats = gameRenderer.getFrameStats();
+                long frames = stats.getPresentedFrames();
+                long ticks = tickStats.getTicks();
+                System.out.printf("FPS %d | UPS %d | tick %.2fms (max %.2fms) | latency %.2fms (max %.2fms)"
+                                + " | present %.2fms (max %.2fms) | dropped %d%n",
+                        frames - lastFrames, ticks - lastTicks,
+                        tickStats.getAverageTickNanos() / 1e6, tickStats.getMaxTickNanos() / 1e6,
+                        tickStats.getAverageLatencyNanos() / 1e6, tickStats.getMaxLatencyNanos() / 1e6,
+                        stats.getAveragePresentNanos() / 1e6, stats.getMaxPresentNanos() / 1e6,
+                        stats.getDroppedFrames());
+                lastFrames = frames;
+                lastTicks = ticks;
+                timer = now;
+            }
 
-            // 📊 STEP 3c: FPS COUNTER (prints every second)
-            frames++;
-            if (System.currentTimeMillis() - timer > 1_000) {
-                System.out.println("FPS " + frames);  // ~60fps target!
-                frames = 0;
-                timer = System.currentTimeMillis();
+            // 💤 STEP 3e: PACING
+            if (separateRenderThread) {
+                waitUntil(now + updateIntervalNanos - accumulator); // Sleep until the next step is due
+            } else {
+                nextFrameTime = paceFrame(nextFrameTime);
             }
         }
     }
 
     /**
-     * ===== UPDATE - Game Logic (Called 60fps) =====
-     * Updates ALL game objects using real-time delta.
+     * ===== STEP 4: RENDER LOOP (split mode only) =====
+     * Runs on its own thread, so a slow frame never delays the simulation.
+     * Draws whatever snapshot is newest; never waits for or locks the game thread.
+     */
+    private void renderLoop() {
+        long nextFrameTime = System.nanoTime();
+        while (running) {
+            render();
+            nextFrameTime = paceFrame(nextFrameTime);
+        }
+    }
+
+    /**
+     * ===== FRAME PACING =====
+     * Waits until the next frame slot and returns the one after it.
+     * Uncapped: only yields, so an idle core is not burned between frames.
+     */
+    private long paceFrame(long nextFrameTime) {
+        if (frameIntervalNanos > 0) {
+            nextFrameTime += frameIntervalNanos;
+            if (System.nanoTime() - nextFrameTime > frameIntervalNanos) {
+                nextFrameTime = System.nanoTime(); // Fell behind → resync instead of bursting
+            }
+            waitUntil(nextFrameTime);
+        } else if (mode == Mode.FIXED) {
+            Thread.yield();
+        }
+        return nextFrameTime;
+    }
+
+    /**
+     * ===== HYBRID WAIT =====
+     * Thread.sleep() is cheap but can overshoot by a millisecond or more,
+     * so sleep until SPIN_THRESHOLD_NANOS before the deadline, then spin.
+     */
+    private void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                try {
+                    Thread.sleep((remaining - SPIN_THRESHOLD_NANOS) / 1_000_000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * ===== UPDATE - Game Logic (Called UPS times per second) =====
+     * Updates ALL game objects using the fixed step (or real delta in VARIABLE mode).
      * Delegates to GameWorld → Clean separation!
+     * tickTimeNanos: when this step ends in real time → queued input up to it is applied first
+     * Timed into GameMetrics and, when flight recording (-Dgame.jfr), a TickEvent → TickTimer.
      */
-    public void update(float delta) {
-        gameWorld.update(delta);  // Enemies chase, spawning, collisions
+    public void update(float delta, long tickTimeNanos) {
+        TickEvent event = tickTimer.begin();
+        gameWorld.update(delta, tickTimeNanos);  // Input, enemies chase, spawning, collisions
+        long end = tickTimer.end(event, gameWorld.getTickCount());
+        tickStats.recordTick(tickTimer.getStartNanos(), end);
     }
 
     /**
-     * ===== RENDER - Draw Frame (Called 60fps) =====
-     * Forces immediate repaint of entire GamePanel.
-     * <p>
-     * paintImmediately() = Emergency redraw → Bypasses Swing paint queue
-     * Parameters: (x=0, y=0, width, height) = Entire panel
-     * <p>
-     * ⚠️ WARNING: Thread-safe but can cause flickering on some systems
+     * ===== RENDER - Draw Frame (Called FPS times per second) =====
+     * Hands the frame to the selected GameRenderer backend:
+     * GameCanvas → Active rendering into a BufferStrategy (page flip / triple buffer)
+     * GamePanel  → paintImmediately() through Swing (fallback)
+     * The world draws its newest snapshot; latency = how old it was once on screen.
+     * Present time, frame time (present to present) and latency go to GameMetrics → overlay,
+     * and to a FrameEvent when flight recording → FrameTimer.
      */
     public void render() {
-        // ⚡ FORCE IMMEDIATE REPAINT (no delay!)
-        // Triggers: GamePanel.paintComponent() → GameWorld.render()
-        gamePanel.paintImmediately(0, 0, gamePanel.getWidth(), gamePanel.getHeight());
+        FrameEvent event = frameTimer.begin();
+        gameRenderer.present();
+        RenderSnapshot snapshot = gameWorld.getRenderedSnapshot();
+        long end = frameTimer.end(event, snapshot != null ? snapshot.tick : -1);
+        if (lastPresentEnd != 0) GameMetrics.FRAME_TIME.record(end - lastPresentEnd);
+        lastPresentEnd = end;
+
+        if (snapshot != null) {
+            long latency = end - snapshot.getPublishNanos();
+            tickStats.recordLatency(latency);
+            GameMetrics.FRAME_LATENCY.record(latency);
+        }
+    }
+
+    /**
+     * ===== TIMING STATS =====
+     * Tick duration and snapshot latency, readable from any thread.
+     */
+    public TickStats getTickStats() {
+        return tickStats;
     }
 }
@@ -3,35 +3,70 @@ package com.game.window;
 import javax.swing.*;
 import java.awt.*;
 
+import static com.game.constants.GameConfig.FRAMES_PER_SECOND;
 import static com.game.constants.GameConstant.GAME_HEIGHT;
 import static com.game.constants.GameConstant.GAME_WIDTH;
 
 /**
  * GamePanel serves as the Swing canvas for rendering the game world.
  * Handles preferred sizing and custom painting via paintComponent.
+ * Fallback GameRenderer when active rendering (GameCanvas) is not wanted.
  */
-public class GamePanel extends JPanel {
+public class GamePanel extends JPanel implements GameRenderer {
 
-    private final GameWorld gameWorld;
+    public static final Color BACKGROUND_COLOR = new Color(106, 55, 55); // Earth tone
+
+    private final FrameStats frameStats = new FrameStats(FRAMES_PER_SECOND);
+    private final ScaledPresenter presenter;
+    private volatile Thread presentThread; // Only this thread may draw the world
 
     /**
      * Initializes panel with game world reference, size, and input focus.
      * Called during GameInitializer before adding to GameFrame.
      */
     public GamePanel(GameWorld gameWorld) {
-        this.gameWorld = gameWorld;
-        setBackground(new Color(106, 55, 55)); // Earth tone
+        this.presenter = new ScaledPresenter(gameWorld, this);
+        setBackground(BACKGROUND_COLOR);
         setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
         setFocusable(true);
     }
 
     /**
      * Custom paint method called by Swing ~60fps during game loop.
-     * Clears background then delegates rendering to GameWorld.
+     * Renders the world at internal resolution, then scales it to the panel size
+     * (ScaledPresenter fills the whole panel, bars included, so no clear).
+     * Repaints Swing triggers itself (EDT) only clear: snapshots have a single reader,
+     * and the next present() redraws the frame anyway.
      */
     @Override
     public void paintComponent(Graphics g) {
-        super.paintComponent(g); // Clear to background color (essential!)
-        gameWorld.render(g);     // Draw player, enemies, UI, etc.
+        if (Thread.currentThread() != presentThread) {
+            super.paintComponent(g); // Clear to background color
+            return;
+        }
+        presenter.renderWorld(); // Draw player, enemies, UI, etc.
+        presenter.present(g, getWidth(), getHeight());
+    }
+
+    @Override
+    public Component getComponent() {
+        return this;
+    }
+
+    /**
+     * Forces immediate repaint of the entire panel from the calling thread.
+     * paintImmediately() bypasses the Swing paint queue → paintComponent runs now.
+     */
+    @Override
+    public void present() {
+        presentThread = Thread.currentThread();
+        long start = System.nanoTime();
+        paintImmediately(0, 0, getWidth(), getHeight());
+        frameStats.recordPresent(start, System.nanoTime(), false);
+    }
+
+    @Override
+    public FrameStats getFrameStats() {
+        return frameStats;
     }
 }
@@ -0,0 +1,26 @@
+package com.game.window;
+
+import java.awt.*;
+
+/**
+ * Rendering backend driven by GameLoop.
+ * Implemented by GamePanel (Swing repaint) and GameCanvas (BufferStrategy).
+ */
+public interface GameRenderer {
+
+    /**
+     * Returns the AWT component hosted by GameFrame and receiving key input.
+     */
+    Component getComponent();
+
+    /**
+     * Draws the current game world and shows it on screen.
+     * Called from the game loop thread once per frame.
+     */
+    void present();
+
+    /**
+     * Returns present latency and dropped frame counters.
+     */
+    FrameStats getFrameStats();
+}
@@ -1,57 +1,473 @@
 package com.game.window;
 
+import com.game.asset_helper.AssetHandle;
+import com.game.asset_helper.AssetManager;
+import com.game.asset_helper.ImageUtils;
 import com.game.asset_helper.SpriteLoader;
+import com.game.entity.AnimationSystem;
+import com.game.entity.EntityCollisionSystem;
+import com.game.entity.EntityRenderer;
+import com.game.entity.EntityStore;
+import com.game.entity.MovementSystem;
+import com.game.entity.NpcSystem;
 import com.game.entity.Player;
+import com.game.entity.SpatialGrid;
+import com.game.entity.UpdateScheduler;
+import com.game.input_handler.InputAction;
+import com.game.input_handler.InputQueue;
+import com.game.metrics.GameMetrics;
+import com.game.render.DirtyRegion;
+import com.game.render.RenderQueue;
+import com.game.render.TileRasterizer;
+import com.game.replay.InputRecorder;
+import com.game.world.Camera;
 import com.game.world.Map;
+import com.game.world.TileCollider;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static com.game.constants.GameConfig.ASSET_THREADS;
+import static com.game.constants.GameConfig.DIRTY_RECTS;
+import static com.game.constants.GameConfig.NPC_COUNT;
+import static com.game.constants.GameConfig.OVERLAY;
+import static com.game.constants.GameConfig.RASTERIZER;
+import static com.game.constants.GameConfig.RASTER_THREADS;
+import static com.game.constants.GameConfig.UPDATE_THREADS;
+import static com.game.constants.GameConfig.WORLD_SEED;
+import static com.game.constants.GameConstant.GAME_HEIGHT;
+import static com.game.constants.GameConstant.GAME_WIDTH;
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
 
 /**
- * Central game world containing player, map, and sprite loader.
+ * Central game world containing entities, map, camera and sprite loader.
  * Coordinates update/render calls from GameLoop/GamePanel.
+ * The simulation thread updates live state and publishes a RenderSnapshot after each
+ * step; render() only ever draws the newest snapshot, so it can run on another thread.
+ * <p>
+ * Created with an AssetManager, the world starts empty: render() shows a LoadingScreen and
+ * update() does nothing until the assets arrive, then the first update builds the world.
  */
 public class GameWorld {
 
+    private static final int NPC_SPAWN_ATTEMPTS = 10;
+    private static final int CHECKSUM_INTERVAL = 60; // Ticks between recorded state hashes
+    private static final int MAX_DIRTY_PERCENT = 50; // Redraw the whole view above this
+
+    // Loading
+    private final AssetManager assetManager;
+    private final AssetHandle<GameAssets> assets;
+    private final LoadingScreen loadingScreen;
+    private final int npcCount;
+    private final long worldSeed;
+    private volatile boolean loaded; // Set after the first snapshot is published
+    private boolean firstFrameDrawn; // Render thread only
     private SpriteLoader spriteLoader;
     // Game objects
+    private EntityStore entities;
     private Player player;
     private Map map;
+    private Camera camera;
+    private TileCollider collider;
+    // Input: filled on the EDT, drained at the start of each tick
+    private final InputQueue inputQueue = new InputQueue();
+    private final InputQueue.InputConsumer inputConsumer = this::applyInput;
+    private InputRecorder inputRecorder; // null = not recording
+    private long tickCount; // Updates run so far
+    // Entity systems: per-entity phase (batched), then serial phase
+    private UpdateScheduler updateScheduler;
+    private UpdateScheduler.RangeTask entityBatch; // Per-entity systems fused over one batch
+    private NpcSystem npcSystem;
+    private MovementSystem movementSystem;
+    private AnimationSystem animationSystem;
+    private SpatialGrid spatialGrid;
+    private EntityCollisionSystem entityCollisionSystem;
+    private EntityRenderer entityRenderer;
+    private final RenderQueue renderQueue = new RenderQueue(256); // Render thread only
+    // Dirty-rectangle mode (-Dgame.dirtyRects): last frame kept and patched, render thread only
+    private final DirtyRegion dirtyRegion = DIRTY_RECTS ? new DirtyRegion() : null;
+    private BufferedImage frameCache;
+    private int frameCacheX, frameCacheY; // View the cached frame shows
+    private boolean frameCacheValid;
+    private TileRasterizer rasterizer; // -Dgame.rasterizer=cpu, null = Java2D
+    // Render state: written by the simulation thread, drawn by the render thread
+    private final SnapshotBuffer<RenderSnapshot> snapshots = new SnapshotBuffer<>(RenderSnapshot::new);
+    private volatile RenderSnapshot renderedSnapshot; // Last snapshot render() drew
+    private final PerformanceOverlay overlay = new PerformanceOverlay(OVERLAY);
 
     /**
-     * Initializes all game objects and loads sprites.
+     * Initializes all game objects and loads sprites, blocking until done.
+     * NPC count and seed come from GameConfig (-Dgame.npcs, -Dgame.seed).
      */
     public GameWorld() {
-        init();
+        this(NPC_COUNT, WORLD_SEED);
+    }
+
+    /**
+     * Initializes all game objects with an explicit NPC setup (replays, benchmarks),
+     * blocking until assets are loaded.
+     */
+    public GameWorld(int npcCount, long worldSeed) {
+        this(new AssetManager(ASSET_THREADS), npcCount, worldSeed);
+        init(assets.get());
+        assetManager.shutdown();
+    }
+
+    /**
+     * Starts loading assets on the given manager and returns at once.
+     * The world is built by the first update() after they are ready.
+     */
+    public GameWorld(AssetManager assetManager, int npcCount, long worldSeed) {
+        this.assetManager = assetManager;
+        this.assets = GameAssets.load(assetManager);
+        this.loadingScreen = new LoadingScreen(assetManager);
+        this.npcCount = npcCount;
+        this.worldSeed = worldSeed;
+    }
+
+    /**
+     * Creates map, entity systems, player, NPCs and a camera following the player.
+     * Game thread (or the constructor).
+     */
+    private void init(GameAssets gameAssets) {
+        spriteLoader = gameAssets.getSpriteLoader();
+        map = new Map(spriteLoader, gameAssets.getMapSource());
+        collider = new TileCollider(map);
+
+        entities = new EntityStore();
+        npcSystem = new NpcSystem(entities);
+        movementSystem = new MovementSystem(entities, collider, map.getPixelWidth(), map.getPixelHeight());
+        spatialGrid = new SpatialGrid(entities, map.getPixelWidth(), map.getPixelHeight());
+        entityCollisionSystem = new EntityCollisionSystem(entities, spatialGrid, collider,
+                map.getPixelWidth(), map.getPixelHeight());
+        animationSystem = new AnimationSystem(entities, spriteLoader);
+        entityRenderer = new EntityRenderer(spriteLoader.getAtlas());
+        updateScheduler = new UpdateScheduler(UPDATE_THREADS);
+        entityBatch = (deltaTime, from, to) -> {
+            npcSystem.update(deltaTime, from, to);
+            movementSystem.update(deltaTime, from, to);
+            animationSystem.update(deltaTime, from, to);
+        };
+
+        player = new Player(entities, 10, 10, 32, 32);
+        camera = new Camera(GAME_WIDTH, GAME_HEIGHT);
+        if (RASTERIZER.equals("cpu")) {
+            rasterizer = new TileRasterizer(spriteLoader.getAtlas(), GAME_WIDTH, GAME_HEIGHT,
+                    GamePanel.BACKGROUND_COLOR, RASTER_THREADS);
+        }
+        followPlayer(true);
+        map.preload(camera.getRenderX(1f), camera.getRenderY(1f), GAME_WIDTH, GAME_HEIGHT);
+        spawnNpcs(npcCount, worldSeed);
+        spatialGrid.update();
+        animationSystem.update(0f); // Resolve first sprites before the first frame
+        writeSnapshot(System.nanoTime(), 0);
+        loaded = true; // Render thread now sees the built world and its first snapshot
+        GameMetrics.WORLD_READY.set(ManagementFactory.getRuntimeMXBean().getUptime());
     }
 
     /**
-     * Creates sprite loader, map, and player.
+     * Places NPCs at seeded random positions, avoiding solid tiles where possible.
      */
-    private void init() {
-        spriteLoader = new SpriteLoader();
-        map = new Map(spriteLoader);
-        player = new Player(10, 10, 32, 32, spriteLoader);
+    private void spawnNpcs(int count, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            float width = player.getWidth(), height = player.getHeight();
+            float x = 0, y = 0;
+            for (int attempt = 0; attempt < NPC_SPAWN_ATTEMPTS; attempt++) {
+                x = random.nextFloat() * (map.getPixelWidth() - width);
+                y = random.nextFloat() * (map.getPixelHeight() - height);
+                if (!collider.isSolid((int) ((y + height / 2) / TILE_HEIGHT), (int) ((x + width / 2) / TILE_WIDTH))) break;
+            }
+            int id = entities.create(x, y, width, height, EntityStore.FLAG_COLLIDES | EntityStore.FLAG_NPC);
+            entities.setHitbox(id, Player.HITBOX_X, Player.HITBOX_Y, Player.HITBOX_WIDTH, Player.HITBOX_HEIGHT);
+        }
     }
 
     /**
-     * Renders map then player (back-to-front).
+     * Renders the newest snapshot: map, then entities through the render queue (y-sorted),
+     * offset by the camera, then the performance overlay (if shown) in screen space.
+     * Interpolates by the time elapsed since the snapshot's tick.
+     * With -Dgame.rasterizer=cpu the frame is composited in software by a TileRasterizer;
+     * otherwise, with -Dgame.dirtyRects only what changed is recomposed (see renderDirty).
+     * Call from one thread only (the one presenting frames).
      */
     public void render(Graphics g) {
-        map.render(g);
-        player.render(g);
+        if (!loaded) {
+            loadingScreen.render(g);
+            return;
+        }
+        if (!firstFrameDrawn) {
+            firstFrameDrawn = true;
+            GameMetrics.FIRST_FRAME.set(ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+
+        RenderSnapshot snapshot = snapshots.acquire();
+        renderedSnapshot = snapshot;
+        float interpolation = snapshot.getInterpolation(System.nanoTime());
+        int viewX = Math.round(snapshot.cameraPrevX + (snapshot.cameraX - snapshot.cameraPrevX) * interpolation);
+        int viewY = Math.round(snapshot.cameraPrevY + (snapshot.cameraY - snapshot.cameraPrevY) * interpolation);
+
+        if (rasterizer != null) {
+            entityRenderer.submit(renderQueue, snapshot.entities, interpolation,
+                    viewX, viewY, camera.getViewWidth(), camera.getViewHeight());
+            rasterizer.render(map, renderQueue, viewX, viewY);
+            rasterizer.present(g);
+            GameMetrics.REDRAWN_PERCENT.set(100);
+        } else if (dirtyRegion != null) {
+            renderDirty(g, snapshot, interpolation, viewX, viewY);
+        } else {
+            g.translate(-viewX, -viewY);
+            try {
+                map.render(g, viewX, viewY, camera.getViewWidth(), camera.getViewHeight());
+                entityRenderer.submit(renderQueue, snapshot.entities, interpolation,
+                        viewX, viewY, camera.getViewWidth(), camera.getViewHeight());
+                renderQueue.sort();
+                renderQueue.flush(g, spriteLoader.getAtlas());
+            } finally {
+                g.translate(viewX, viewY);
+            }
+            GameMetrics.REDRAWN_PERCENT.set(100);
+        }
+        overlay.render(g);
+    }
+
+    /**
+     * Dirty-rectangle render: keeps the last frame in an image and recomposes only the
+     * merged rectangles that changed (from the cached map pages, then the sprites over them),
+     * then draws the image. Falls back to a full recompose when the camera moved, the map's
+     * layer cache is off, or more than MAX_DIRTY_PERCENT of the view changed.
+     */
+    private void renderDirty(Graphics g, RenderSnapshot snapshot, float interpolation, int viewX, int viewY) {
+        int viewWidth = camera.getViewWidth();
+        int viewHeight = camera.getViewHeight();
+        if (frameCache == null) {
+            frameCache = ImageUtils.createCompatibleImage(viewWidth, viewHeight, Transparency.OPAQUE);
+        }
+
+        dirtyRegion.clear();
+        map.refresh(viewX, viewY, viewWidth, viewHeight, dirtyRegion);
+        entityRenderer.submit(renderQueue, snapshot.entities, interpolation,
+                viewX, viewY, viewWidth, viewHeight, dirtyRegion);
+        renderQueue.sort();
+        dirtyRegion.clip(viewX, viewY, viewWidth, viewHeight);
+
+        long viewArea = (long) viewWidth * viewHeight;
+        boolean full = !frameCacheValid || viewX != frameCacheX || viewY != frameCacheY
+                || !map.isLayerCacheEnabled() || dirtyRegion.getArea() * 100 > viewArea * MAX_DIRTY_PERCENT;
+        Graphics2D frame = frameCache.createGraphics();
+        try {
+            frame.translate(-viewX, -viewY);
+            if (full) {
+                compose(frame, viewX, viewY, viewWidth, viewHeight);
+            } else {
+                for (int i = 0; i < dirtyRegion.size(); i++) {
+                    compose(frame, dirtyRegion.getX(i), dirtyRegion.getY(i),
+                            dirtyRegion.getWidth(i), dirtyRegion.getHeight(i));
+                }
+            }
+        } finally {
+            frame.dispose();
+        }
+        renderQueue.clear();
+        frameCacheValid = true;
+        frameCacheX = viewX;
+        frameCacheY = viewY;
+        GameMetrics.REDRAWN_PERCENT.set(full ? 100 : dirtyRegion.getArea() * 100 / viewArea);
+
+        g.drawImage(frameCache, 0, 0, null);
+        GameMetrics.DRAW_CALLS.increment();
+    }
+
+    /**
+     * Redraws one world-space area of the cached frame: background, map, then the queued sprites.
+     */
+    private void compose(Graphics2D frame, int x, int y, int width, int height) {
+        frame.setClip(x, y, width, height);
+        frame.setColor(GamePanel.BACKGROUND_COLOR);
+        frame.fillRect(x, y, width, height);
+        map.render(frame, x, y, width, height);
+        renderQueue.draw(frame, spriteLoader.getAtlas(), x, y, width, height);
+    }
+
+    /**
+     * Copies camera and entities into a snapshot and hands it to the renderer.
+     * Simulation thread only, after update(). Does nothing while loading.
+     *
+     * @param stateTimeNanos when the simulated state is "at", for interpolation
+     * @param tickNanos      simulation step length, 0 to draw without interpolation
+     */
+    public void publishSnapshot(long stateTimeNanos, long tickNanos) {
+        if (loaded) writeSnapshot(stateTimeNanos, tickNanos);
+    }
+
+    private void writeSnapshot(long stateTimeNanos, long tickNanos) {
+        RenderSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.tick = tickCount; // Same count as TickEvent, so frames line up with ticks
+        snapshot.stateTimeNanos = stateTimeNanos;
+        snapshot.tickNanos = tickNanos;
+        snapshot.cameraPrevX = camera.getPrevX();
+        snapshot.cameraPrevY = camera.getPrevY();
+        snapshot.cameraX = camera.getX();
+        snapshot.cameraY = camera.getY();
+        snapshot.entities.capture(entities);
+        snapshot.publishNanos = System.nanoTime();
+        snapshots.publish();
+    }
+
+    /**
+     * Returns true if render() always covers the whole view with an opaque frame
+     * (dirty-rectangle mode, CPU rasterizer), so the ScaledPresenter need not clear first.
+     */
+    public boolean coversFrame() {
+        return DIRTY_RECTS || RASTERIZER.equals("cpu");
     }
 
     /**
-     * Updates player logic each frame.
+     * Returns the snapshot last drawn by render(), for latency measurement.
+     */
+    public RenderSnapshot getRenderedSnapshot() {
+        return renderedSnapshot;
+    }
+
+    /**
+     * Applies player input, then runs NPC AI, movement and animation for all entities
+     * in parallel batches (each entity only writes its own slots). The serial phase then
+     * reindexes entities and pushes overlapping ones apart in id order, so the result
+     * matches a serial run. Finally moves the camera after the player and streams in
+     * map chunks around the new view.
      */
     public void update(float deltaTime) {
+        update(deltaTime, Long.MAX_VALUE);
+    }
+
+    /**
+     * Same as update(deltaTime), but first applies queued input stamped at or before
+     * tickTimeNanos (System.nanoTime), the simulated time this tick ends at.
+     * Input that arrived later waits for the tick covering it.
+     * While assets are loading nothing runs and input stays queued.
+     */
+    public void update(float deltaTime, long tickTimeNanos) {
+        if (!loaded) {
+            if (!assets.isDone()) return;
+            init(assets.get()); // Throws if loading failed
+        }
+        inputQueue.drain(tickTimeNanos, inputConsumer);
+        tickCount++;
         player.update(deltaTime);
+        updateScheduler.run(entityBatch, deltaTime, entities.size());
+        spatialGrid.update();
+        entityCollisionSystem.update();
+        followPlayer(false);
+        map.update(camera.getRenderX(1f), camera.getRenderY(1f), camera.getViewWidth(), camera.getViewHeight());
+        GameMetrics.ENTITIES.set(entities.size());
+        GameMetrics.LOADED_CHUNKS.set(map.getChunkManager().getLoadedChunkCount());
+
+        if (inputRecorder != null && tickCount % CHECKSUM_INTERVAL == 0) {
+            inputRecorder.checksum(tickCount, computeStateHash());
+        }
+    }
+
+    private void followPlayer(boolean snap) {
+        if (snap) {
+            camera.snapTo(player.getX(), player.getY(), player.getWidth(), player.getHeight(),
+                    map.getPixelWidth(), map.getPixelHeight());
+        } else {
+            camera.follow(player.getX(), player.getY(), player.getWidth(), player.getHeight(),
+                    map.getPixelWidth(), map.getPixelHeight());
+        }
+    }
+
+    /**
+     * Applies one input event to the player, recording it first if enabled. Game thread only.
+     */
+    private void applyInput(InputAction action, boolean pressed, long timeNanos) {
+        if (inputRecorder != null) inputRecorder.record(tickCount, action, pressed, timeNanos);
+        switch (action) {
+            case MOVE_UP -> player.setUp(pressed);
+            case MOVE_DOWN -> player.setDown(pressed);
+            case MOVE_LEFT -> player.setLeft(pressed);
+            case MOVE_RIGHT -> player.setRight(pressed);
+            case DIE -> {
+                if (pressed) player.setDead(true);
+            }
+        }
+    }
+
+    /**
+     * Records applied input and a state hash every CHECKSUM_INTERVAL ticks (null stops recording).
+     * Game thread only, or before the loop starts.
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    /**
+     * Returns number of updates run so far.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns a hash of the whole simulation state (entities, camera, tick count).
+     * Two runs fed the same input from the same seed produce the same hash every tick.
+     * Returns 0 while still loading.
+     */
+    public long computeStateHash() {
+        if (!loaded) return 0;
+        long hash = entities.hashState();
+        hash = hash * 31 + Float.floatToRawIntBits(camera.getX());
+        hash = hash * 31 + Float.floatToRawIntBits(camera.getY());
+        return hash * 31 + tickCount;
     }
 
     /**
-     * Returns player reference for input handling.
+     * Returns queue input handlers post events to (from any single thread).
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    /**
+     * Returns true once assets are in and the world is built.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returns player reference. Game thread only; other threads go through the InputQueue.
      */
     public Player getPlayer() {
         return player;
     }
+
+    public EntityStore getEntities() {
+        return entities;
+    }
+
+    /**
+     * Returns the entity index for neighbour and range queries.
+     */
+    public SpatialGrid getSpatialGrid() {
+        return spatialGrid;
+    }
+
+    public Map getMap() {
+        return map;
+    }
+
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Returns the performance overlay render() draws on top (toggle from any thread).
+     */
+    public PerformanceOverlay getOverlay() {
+        return overlay;
+    }
 }
@@ -0,0 +1,44 @@
+package com.game.window;
+
+import com.game.asset_helper.AssetManager;
+import com.game.metrics.GameMetrics;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+
+import static com.game.constants.GameConstant.GAME_HEIGHT;
+import static com.game.constants.GameConstant.GAME_WIDTH;
+
+/**
+ * Drawn instead of the world until GameWorld has its assets: title and progress bar.
+ * Needs no assets itself, so it is on screen as soon as the window is.
+ */
+public class LoadingScreen {
+
+    private static final int BAR_WIDTH = 320, BAR_HEIGHT = 12;
+    private static final Font FONT = new Font(Font.SANS_SERIF, Font.BOLD, 20);
+
+    private final AssetManager assetManager;
+    private boolean shown; // Render thread only
+
+    public LoadingScreen(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    public void render(Graphics g) {
+        if (!shown) {
+            shown = true;
+            GameMetrics.LOADING_SCREEN_SHOWN.set(ManagementFactory.getRuntimeMXBean().getUptime());
+        }
+
+        int barX = (GAME_WIDTH - BAR_WIDTH) / 2;
+        int barY = GAME_HEIGHT / 2;
+        g.setColor(GamePanel.BACKGROUND_COLOR);
+        g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
+        g.setColor(Color.WHITE);
+        g.setFont(FONT);
+        g.drawString("Loading...", barX, barY - BAR_HEIGHT);
+        g.drawRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        g.fillRect(barX + 2, barY + 2, Math.round((BAR_WIDTH - 3) * assetManager.getProgress()), BAR_HEIGHT - 3);
+    }
+}
@@ -0,0 +1,164 @@
+package com.game.window;
+
+import com.game.metrics.Counter;
+import com.game.metrics.GameMetrics;
+import com.game.metrics.LatencyHistogram;
+
+import java.awt.*;
+
+/**
+ * On-screen table of GameMetrics: frame, render and tick time percentiles,
+ * draw calls, entities and GC pauses, over the last REFRESH_NANOS.
+ * Toggled at runtime (F3) or on at startup with -Dgame.overlay=true.
+ * <p>
+ * Drawn by the render thread after the world. Statistics are refreshed into
+ * preallocated histograms and the text is built in char buffers, so an open
+ * overlay adds no garbage of its own.
+ */
+public class PerformanceOverlay {
+
+    private static final long REFRESH_NANOS = 500_000_000L;
+    private static final int LINE_COUNT = 7;
+    private static final int LINE_LENGTH = 64;
+    private static final int LINE_HEIGHT = 14;
+    private static final int PADDING = 6;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 160);
+
+    private volatile boolean visible;
+    // Interval views and the totals they were last taken from (render thread only)
+    private final LatencyHistogram frameTime = new LatencyHistogram(), frameBaseline = new LatencyHistogram();
+    private final LatencyHistogram renderTime = new LatencyHistogram(), renderBaseline = new LatencyHistogram();
+    private final LatencyHistogram tickTime = new LatencyHistogram(), tickBaseline = new LatencyHistogram();
+    private final LatencyHistogram gcPause = new LatencyHistogram(), gcBaseline = new LatencyHistogram();
+    private long lastRefresh = System.nanoTime(); // First refresh covers the time since creation
+    private long lastDrawCalls, lastTilesDrawn, lastTilesCached, lastSpritesDrawn;
+    // Text
+    private final char[][] lines = new char[LINE_COUNT][LINE_LENGTH];
+    private final int[] lineLengths = new int[LINE_COUNT];
+    private int line, column;
+
+    public PerformanceOverlay(boolean visible) {
+        this.visible = visible;
+    }
+
+    /**
+     * Shows or hides the overlay. Any thread (key handler).
+     */
+    public void toggle() {
+        visible = !visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Draws the overlay in screen space (top-left corner) if visible.
+     */
+    public void render(Graphics g) {
+        if (!visible) return;
+
+        long now = System.nanoTime();
+        if (now - lastRefresh >= REFRESH_NANOS) {
+            refresh(now - lastRefresh);
+            lastRefresh = now;
+        }
+
+        int width = 0;
+        for (int i = 0; i < LINE_COUNT; i++) width = Math.max(width, lineLengths[i]);
+        g.setFont(FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, width * metrics.charWidth('0') + 2 * PADDING, LINE_COUNT * LINE_HEIGHT + 2 * PADDING);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            g.drawChars(lines[i], 0, lineLengths[i], PADDING, PADDING + (i + 1) * LINE_HEIGHT - 3);
+        }
+    }
+
+    /**
+     * Rebuilds every line from what was recorded since the last refresh.
+     */
+    private void refresh(long elapsedNanos) {
+        frameTime.setToInterval(GameMetrics.FRAME_TIME, frameBaseline);
+        renderTime.setToInterval(GameMetrics.RENDER_TIME, renderBaseline);
+        tickTime.setToInterval(GameMetrics.TICK_TIME, tickBaseline);
+        gcPause.setToInterval(GameMetrics.GC_PAUSE, gcBaseline);
+        long frames = Math.max(1, frameTime.getCount());
+        double seconds = elapsedNanos / 1e9;
+
+        line = 0;
+        text("FPS ").number(Math.round(frameTime.getCount() / seconds))
+                .text("  UPS ").number(Math.round(tickTime.getCount() / seconds)).endLine();
+        percentiles("frame  ", frameTime);
+        percentiles("render ", renderTime);
+        percentiles("tick   ", tickTime);
+        text("draws ").number(delta(GameMetrics.DRAW_CALLS, lastDrawCalls) / frames)
+                .text("  tiles ").number(delta(GameMetrics.TILES_DRAWN, lastTilesDrawn) / frames)
+                .text("  cached ").number(delta(GameMetrics.TILES_CACHED, lastTilesCached) / frames)
+                .text("  sprites ").number(delta(GameMetrics.SPRITES_DRAWN, lastSpritesDrawn) / frames)
+                .text(" /frame").endLine();
+        text("entities ").number(GameMetrics.ENTITIES.get())
+                .text("  chunks ").number(GameMetrics.LOADED_CHUNKS.get())
+                .text("  redrawn ").number(GameMetrics.REDRAWN_PERCENT.get()).text("%").endLine();
+        text("gc ").number(gcPause.getCount()).text(" pauses  max ").millis(gcPause.getMax()).text(" ms")
+                .text("  total ").number(GameMetrics.GC_PAUSE.getCount()).endLine();
+
+        lastDrawCalls = GameMetrics.DRAW_CALLS.get();
+        lastTilesDrawn = GameMetrics.TILES_DRAWN.get();
+        lastTilesCached = GameMetrics.TILES_CACHED.get();
+        lastSpritesDrawn = GameMetrics.SPRITES_DRAWN.get();
+    }
+
+    private static long delta(Counter counter, long last) {
+        return counter.get() - last;
+    }
+
+    private void percentiles(String label, LatencyHistogram histogram) {
+        text(label).text("p50 ").millis(histogram.getValueAtPercentile(50))
+                .text(" p99 ").millis(histogram.getValueAtPercentile(99))
+                .text(" max ").millis(histogram.getMax()).text(" ms").endLine();
+    }
+
+    // ===== Text building (no Strings) =====
+
+    private PerformanceOverlay text(String text) {
+        int length = Math.min(text.length(), LINE_LENGTH - column);
+        text.getChars(0, length, lines[line], column);
+        column += length;
+        return this;
+    }
+
+    private PerformanceOverlay number(long value) {
+        if (value < 0) {
+            put('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor >= 10) divisor *= 10;
+        for (; divisor > 0; divisor /= 10) put((char) ('0' + value / divisor % 10));
+        return this;
+    }
+
+    /**
+     * Appends nanoseconds as milliseconds with two decimals.
+     */
+    private PerformanceOverlay millis(long nanos) {
+        long hundredths = (nanos + 5_000) / 10_000;
+        number(hundredths / 100);
+        put('.');
+        put((char) ('0' + hundredths / 10 % 10));
+        put((char) ('0' + hundredths % 10));
+        return this;
+    }
+
+    private void put(char c) {
+        if (column < LINE_LENGTH) lines[line][column++] = c;
+    }
+
+    private void endLine() {
+        lineLengths[line++] = column;
+        column = 0;
+    }
+}
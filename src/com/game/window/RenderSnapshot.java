@@ -0,0 +1,41 @@
+package com.game.window;
+
+import com.game.entity.EntitySnapshot;
+
+/**
+ * Everything needed to draw one simulation tick: camera and entities,
+ * plus timestamps for interpolation and latency.
+ * Filled by GameWorld on the simulation thread, read by the render thread
+ * through a SnapshotBuffer; never both at once.
+ */
+public class RenderSnapshot {
+
+    // Tick identity and timing (System.nanoTime)
+    long tick;
+    long stateTimeNanos;   // Simulated time this state represents
+    long publishNanos;     // When it was handed to the renderer
+    long tickNanos;        // Simulation step, 0 = no interpolation (variable mode)
+    // Camera before and after the tick
+    float cameraPrevX, cameraPrevY, cameraX, cameraY;
+    // Entities
+    final EntitySnapshot entities = new EntitySnapshot();
+
+    /**
+     * Returns how far between the previous and this tick to draw at the given time (0..1).
+     * Time since the state was simulated, measured in ticks: the render thread keeps
+     * moving smoothly between simulation steps.
+     */
+    public float getInterpolation(long nowNanos) {
+        if (tickNanos <= 0) return 1f;
+        float alpha = (nowNanos - stateTimeNanos) / (float) tickNanos;
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.window;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+
+import static com.game.constants.GameConfig.SCALING;
+import static com.game.constants.GameConstant.GAME_HEIGHT;
+import static com.game.constants.GameConstant.GAME_WIDTH;
+
+/**
+ * Renders the world at its fixed internal resolution (GAME_WIDTH x GAME_HEIGHT) into one
+ * back buffer, then shows it in any window size with a single nearest-neighbour blit:
+ * the largest integer scale that fits (or, with -Dgame.scaling=fit, the largest scale
+ * that keeps the aspect ratio), centred, with black bars around it.
+ * Windows smaller than the internal resolution always use fit.
+ * <p>
+ * The back buffer is a VolatileImage, so drawing and scaling stay on the accelerated
+ * pipeline where there is one. Shared by GameCanvas and GamePanel; presenting thread only.
+ */
+class ScaledPresenter {
+
+    private static final Color BAR_COLOR = Color.BLACK;
+
+    private final GameWorld gameWorld;
+    private final Component component; // Target, and source of the GraphicsConfiguration
+    private VolatileImage backBuffer;
+
+    ScaledPresenter(GameWorld gameWorld, Component component) {
+        this.gameWorld = gameWorld;
+        this.component = component;
+    }
+
+    /**
+     * Draws the world into the back buffer at internal resolution.
+     * Recreates the buffer if it no longer fits the screen, and renders again if its
+     * contents were lost while drawing (the usual VolatileImage validate/render loop).
+     */
+    void renderWorld() {
+        GraphicsConfiguration config = component.getGraphicsConfiguration();
+        do {
+            if (backBuffer == null || (config != null && backBuffer.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE)) {
+                if (backBuffer != null) backBuffer.flush();
+                backBuffer = config != null
+                        ? config.createCompatibleVolatileImage(GAME_WIDTH, GAME_HEIGHT, Transparency.OPAQUE)
+                        : component.createVolatileImage(GAME_WIDTH, GAME_HEIGHT);
+            }
+
+            Graphics2D g = backBuffer.createGraphics();
+            try {
+                if (!gameWorld.coversFrame()) {
+                    g.setColor(GamePanel.BACKGROUND_COLOR);
+                    g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
+                }
+                gameWorld.render(g); // Safe to repeat: dirty mode blits its whole cached frame
+            } finally {
+                g.dispose();
+            }
+        } while (backBuffer.contentsLost());
+    }
+
+    /**
+     * Scales the last rendered frame into a target of the given size, letterboxed.
+     */
+    void present(Graphics g, int width, int height) {
+        if (backBuffer == null) return;
+
+        int scaledWidth, scaledHeight;
+        int scale = Math.min(width / GAME_WIDTH, height / GAME_HEIGHT);
+        if (scale >= 1 && !SCALING.equalsIgnoreCase("fit")) {
+            scaledWidth = GAME_WIDTH * scale;
+            scaledHeight = GAME_HEIGHT * scale;
+        } else {
+            double fit = Math.min((double) width / GAME_WIDTH, (double) height / GAME_HEIGHT);
+            scaledWidth = Math.max(1, (int) (GAME_WIDTH * fit));
+            scaledHeight = Math.max(1, (int) (GAME_HEIGHT * fit));
+        }
+        int x = (width - scaledWidth) / 2;
+        int y = (height - scaledHeight) / 2;
+
+        g.setColor(BAR_COLOR);
+        if (x > 0) {
+            g.fillRect(0, 0, x, height);
+            g.fillRect(x + scaledWidth, 0, width - x - scaledWidth, height);
+        }
+        if (y > 0) {
+            g.fillRect(x, 0, scaledWidth, y);
+            g.fillRect(x, y + scaledHeight, scaledWidth, height - y - scaledHeight);
+        }
+        if (g instanceof Graphics2D g2) {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        }
+        g.drawImage(backBuffer, x, y, scaledWidth, scaledHeight, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.game.window;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer handing snapshots from one writer thread to one reader thread.
+ * The writer fills its own buffer and publishes it; the reader always gets the newest
+ * published one. Writer and reader never touch the same buffer, neither ever waits,
+ * and the three buffers are reused, so nothing is allocated after construction.
+ * <p>
+ * One buffer belongs to the writer, one to the reader, and the third sits in the shared
+ * slot. Publishing and acquiring just swap an index with that slot.
+ */
+public class SnapshotBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // Shared slot holds a snapshot the reader has not seen
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger shared = new AtomicInteger(2);
+    private int writeIndex = 0; // Writer thread only
+    private int readIndex = 1;  // Reader thread only
+
+    public SnapshotBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Returns the buffer the writer may fill. Writer thread only.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * Makes the filled write buffer the newest snapshot. Writer thread only.
+     */
+    public void publish() {
+        writeIndex = shared.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the newest published snapshot, or the previous one again if nothing new
+     * was published. Valid until the next acquire(). Reader thread only.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            readIndex = shared.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+}
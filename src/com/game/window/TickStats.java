@@ -0,0 +1,77 @@
+package com.game.window;
+
+/**
+ * Simulation tick timing and snapshot latency for the game loop.
+ * Tick counters are written by the simulation thread, latency by the render thread;
+ * each field has a single writer, and all are safe to read from any thread.
+ */
+public class TickStats {
+
+    // Tick timing
+    private volatile long ticks;
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile long totalTickNanos;
+    // Snapshot latency: publish → frame presented
+    private volatile long latencySamples;
+    private volatile long lastLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile long totalLatencyNanos;
+
+    /**
+     * Records one simulation step.
+     */
+    public void recordTick(long startNanos, long endNanos) {
+        long duration = endNanos - startNanos;
+        ticks++;
+        lastTickNanos = duration;
+        totalTickNanos += duration;
+        if (duration > maxTickNanos) maxTickNanos = duration;
+    }
+
+    /**
+     * Records how old the drawn snapshot was when its frame was presented.
+     */
+    public void recordLatency(long latencyNanos) {
+        latencySamples++;
+        lastLatencyNanos = latencyNanos;
+        totalLatencyNanos += latencyNanos;
+        if (latencyNanos > maxLatencyNanos) maxLatencyNanos = latencyNanos;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Returns mean update duration over all ticks, in nanoseconds.
+     */
+    public long getAverageTickNanos() {
+        long count = ticks;
+        return count == 0 ? 0 : totalTickNanos / count;
+    }
+
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Returns mean snapshot latency over all presented frames, in nanoseconds.
+     */
+    public long getAverageLatencyNanos() {
+        long count = latencySamples;
+        return count == 0 ? 0 : totalLatencyNanos / count;
+    }
+}
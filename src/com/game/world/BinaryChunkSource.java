@@ -0,0 +1,157 @@
+package com.game.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Chunk source reading the .tmap format (see MapFormat).
+ * Files are memory-mapped; opening only parses the header and chunk table,
+ * and each chunk is bulk-copied straight from the mapping into a TileGrid.
+ * Reads use absolute buffer access only, so loader threads can share it.
+ */
+public class BinaryChunkSource implements ChunkSource {
+
+    private final ByteBuffer data;
+    private final int rows, cols;
+    private final int chunkCols, chunkRows;
+    private final boolean compressed;
+    private final String[] layerNames;
+    private final int tableOffset;
+    // Per loader thread scratch for compressed chunks
+    private final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(Inflater::new);
+    private final ThreadLocal<byte[]> scratch;
+
+    public BinaryChunkSource(ByteBuffer data) throws IOException {
+        this.data = data;
+        int position = 0;
+        if (data.getInt(position) != MapFormat.MAGIC) {
+            throw new IOException("Not a .tmap file (bad magic)");
+        }
+        short version = data.getShort(position + 4);
+        if (version != MapFormat.VERSION) {
+            throw new IOException("Unsupported .tmap version " + version);
+        }
+        compressed = (data.getShort(position + 6) & MapFormat.FLAG_DEFLATE) != 0;
+        cols = data.getInt(position + 8);
+        rows = data.getInt(position + 12);
+        int chunkSize = data.getShort(position + 16);
+        if (chunkSize != Chunk.SIZE) {
+            throw new IOException("Chunk size " + chunkSize + " does not match Chunk.SIZE " + Chunk.SIZE);
+        }
+        layerNames = new String[data.getShort(position + 18)];
+        position += 20;
+
+        for (int layer = 0; layer < layerNames.length; layer++) {
+            int length = data.getShort(position);
+            byte[] name = new byte[length];
+            data.get(position + 2, name);
+            layerNames[layer] = new String(name, StandardCharsets.UTF_8);
+            position += 2 + length;
+        }
+
+        chunkCols = (cols + Chunk.SIZE - 1) / Chunk.SIZE;
+        chunkRows = (rows + Chunk.SIZE - 1) / Chunk.SIZE;
+        tableOffset = position;
+        int rawSize = layerNames.length * Chunk.SIZE * Chunk.SIZE * 2;
+        scratch = ThreadLocal.withInitial(() -> new byte[rawSize]);
+    }
+
+    /**
+     * Memory-maps a .tmap file.
+     */
+    public static BinaryChunkSource open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new BinaryChunkSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Opens a classpath resource: memory-mapped when it is a plain file,
+     * otherwise (e.g. inside a jar) read into a heap buffer.
+     *
+     * @return null if the resource does not exist
+     */
+    public static BinaryChunkSource openResource(String resourcePath) throws IOException {
+        URL url = BinaryChunkSource.class.getResource(resourcePath);
+        if (url == null) return null;
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return open(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Bad resource URL: " + url, e);
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return new BinaryChunkSource(ByteBuffer.wrap(in.readAllBytes()));
+        }
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public String[] getLayerNames() {
+        return layerNames.clone();
+    }
+
+    @Override
+    public Chunk loadChunk(int chunkX, int chunkY) throws IOException {
+        if (chunkX < 0 || chunkY < 0 || chunkX >= chunkCols || chunkY >= chunkRows) {
+            throw new IOException("Chunk out of range: " + chunkX + "," + chunkY);
+        }
+        int entry = tableOffset + (chunkY * chunkCols + chunkX) * (8 + 4);
+        int offset = (int) data.getLong(entry);
+        int length = data.getInt(entry + 8);
+        if (!compressed && length != layerNames.length * Chunk.SIZE * Chunk.SIZE * 2) {
+            throw new IOException("Bad chunk length " + length + " at offset " + offset);
+        }
+
+        // Payload layout matches TileGrid's (layer-major, row-major): one bulk copy
+        TileGrid grid = new TileGrid(Chunk.SIZE, Chunk.SIZE, layerNames);
+        if (compressed) {
+            byte[] raw = scratch.get();
+            inflate(offset, length, raw);
+            ByteBuffer.wrap(raw).asShortBuffer().get(grid.getTiles());
+        } else {
+            data.slice(offset, length).asShortBuffer().get(grid.getTiles());
+        }
+        return new Chunk(chunkX, chunkY, grid);
+    }
+
+    private void inflate(int offset, int length, byte[] target) throws IOException {
+        Inflater decoder = inflater.get();
+        decoder.reset();
+        decoder.setInput(data.slice(offset, length));
+        try {
+            int total = 0;
+            while (total < target.length && !decoder.finished()) {
+                int read = decoder.inflate(target, total, target.length - total);
+                if (read == 0 && decoder.needsInput()) break;
+                total += read;
+            }
+            if (total != target.length) {
+                throw new IOException("Truncated chunk payload at offset " + offset);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt chunk payload at offset " + offset, e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.world;
+
+/**
+ * Viewport into the world, in world pixels.
+ * Follows a target each update and clamps to the world edges.
+ * Keeps its previous position so rendering can interpolate like entities do.
+ */
+public class Camera {
+
+    private final int viewWidth, viewHeight;
+    // Top-left corner in world pixels
+    private float x, y;
+    private float prevX, prevY;
+
+    public Camera(int viewWidth, int viewHeight) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+    }
+
+    /**
+     * Centers view on target rectangle, clamped so no area outside the world is shown.
+     */
+    public void follow(float targetX, float targetY, float targetWidth, float targetHeight,
+                       int worldWidth, int worldHeight) {
+        prevX = x;
+        prevY = y;
+        x = clamp(targetX + targetWidth / 2f - viewWidth / 2f, worldWidth - viewWidth);
+        y = clamp(targetY + targetHeight / 2f - viewHeight / 2f, worldHeight - viewHeight);
+    }
+
+    /**
+     * Jumps straight to target with no interpolation from the old position.
+     */
+    public void snapTo(float targetX, float targetY, float targetWidth, float targetHeight,
+                       int worldWidth, int worldHeight) {
+        follow(targetX, targetY, targetWidth, targetHeight, worldWidth, worldHeight);
+        prevX = x;
+        prevY = y;
+    }
+
+    private float clamp(float value, float max) {
+        return Math.max(0, Math.min(max, value));
+    }
+
+    /**
+     * Returns left edge to render with, interpolated between the last two updates.
+     */
+    public int getRenderX(float interpolation) {
+        return Math.round(prevX + (x - prevX) * interpolation);
+    }
+
+    /**
+     * Returns top edge to render with, interpolated between the last two updates.
+     */
+    public int getRenderY(float interpolation) {
+        return Math.round(prevY + (y - prevY) * interpolation);
+    }
+
+    /**
+     * Returns left edge after the last update, unrounded.
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns top edge after the last update, unrounded.
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Returns left edge before the last update, unrounded.
+     */
+    public float getPrevX() {
+        return prevX;
+    }
+
+    /**
+     * Returns top edge before the last update, unrounded.
+     */
+    public float getPrevY() {
+        return prevY;
+    }
+
+    public int getViewWidth() {
+        return viewWidth;
+    }
+
+    public int getViewHeight() {
+        return viewHeight;
+    }
+}
@@ -0,0 +1,87 @@
+package com.game.world;
+
+import java.util.BitSet;
+
+/**
+ * Fixed-size square block of the world holding every layer for its cells
+ * in one SIZE x SIZE TileGrid (-1 = empty).
+ */
+public class Chunk {
+
+    public static final int SIZE = 16; // Cells per side (512px at 32px tiles)
+
+    private final int chunkX, chunkY;
+    private final TileGrid grid;
+    // Cells changed since the render cache last saw them (row * SIZE + col)
+    private final BitSet dirtyCells = new BitSet(SIZE * SIZE);
+    private volatile boolean modified;
+
+    public Chunk(int chunkX, int chunkY, TileGrid grid) {
+        if (grid.getRows() != SIZE || grid.getCols() != SIZE) {
+            throw new IllegalArgumentException("Chunk grid must be " + SIZE + "x" + SIZE);
+        }
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.grid = grid;
+    }
+
+    /**
+     * Returns tile index at local cell.
+     */
+    public int getTile(int layer, int localRow, int localCol) {
+        return grid.getTile(layer, localRow, localCol);
+    }
+
+    /**
+     * Changes local cell and marks it dirty for the render cache.
+     */
+    public void setTile(int layer, int localRow, int localCol, int tileIndex) {
+        if (grid.getTile(layer, localRow, localCol) == tileIndex) return;
+        grid.setTile(layer, localRow, localCol, tileIndex);
+        synchronized (dirtyCells) {
+            dirtyCells.set(localRow * SIZE + localCol);
+        }
+        modified = true;
+    }
+
+    /**
+     * Copies dirty cell flags into target and clears them.
+     *
+     * @return false if nothing was dirty
+     */
+    public boolean drainDirtyCells(BitSet target) {
+        synchronized (dirtyCells) {
+            if (dirtyCells.isEmpty()) return false;
+            target.clear();
+            target.or(dirtyCells);
+            dirtyCells.clear();
+            return true;
+        }
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    /**
+     * Returns the chunk's cells; use setTile() on the chunk to keep the render cache in sync.
+     */
+    public TileGrid getGrid() {
+        return grid;
+    }
+
+    public int getLayerCount() {
+        return grid.getLayerCount();
+    }
+
+    /**
+     * Returns true once any cell has been edited (edited chunks are never evicted).
+     */
+    public boolean isModified() {
+        return modified;
+    }
+}
@@ -0,0 +1,215 @@
+package com.game.world;
+
+import com.game.profiling.ChunkLoadEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Streams chunks around the camera from a ChunkSource.
+ * Loading and decoding run on a background executor; the game thread only
+ * schedules work and reads whatever has finished, so it never blocks on I/O.
+ * Chunks far from the view are evicted once more than maxLoadedChunks are held.
+ * Chunks are indexed by chunkY * chunkCols + chunkX in flat arrays, so per-tile
+ * lookups (collision, rendering) neither box a key nor allocate.
+ */
+public class ChunkManager {
+
+    private static final int LOAD_MARGIN = 1; // Extra ring of chunks loaded around the view
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final ChunkSource source;
+    private final int chunkRows, chunkCols;
+    private final int maxLoadedChunks;
+    private final AtomicReferenceArray<Chunk> loaded; // null = not loaded
+    private final AtomicIntegerArray pending;         // 1 = queued on the loader
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ExecutorService loader;
+    // Last requested area, in chunk coordinates (inclusive)
+    private int minChunkX, minChunkY, maxChunkX, maxChunkY;
+
+    public ChunkManager(ChunkSource source, int maxLoadedChunks, int loaderThreads) {
+        this.source = source;
+        this.chunkRows = (source.getRows() + Chunk.SIZE - 1) / Chunk.SIZE;
+        this.chunkCols = (source.getCols() + Chunk.SIZE - 1) / Chunk.SIZE;
+        this.maxLoadedChunks = maxLoadedChunks;
+        this.loaded = new AtomicReferenceArray<>(chunkRows * chunkCols);
+        this.pending = new AtomicIntegerArray(chunkRows * chunkCols);
+        this.loader = Executors.newFixedThreadPool(loaderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "chunk-loader-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests every chunk intersecting the view (plus a margin) and evicts
+     * distant ones if over budget. Called from the game thread; never waits.
+     */
+    public void update(int viewX, int viewY, int viewWidth, int viewHeight) {
+        setRequestedArea(viewX, viewY, viewWidth, viewHeight);
+
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                int index = index(chunkX, chunkY);
+                if (loaded.get(index) == null && pending.compareAndSet(index, 0, 1)) {
+                    pendingCount.incrementAndGet();
+                    int cx = chunkX, cy = chunkY;
+                    loader.execute(() -> load(index, cx, cy));
+                }
+            }
+        }
+
+        if (loadedCount.get() > maxLoadedChunks) {
+            evictDistantChunks();
+        }
+    }
+
+    /**
+     * Loads everything the view needs on the calling thread.
+     * Only meant for startup, before the first frame is shown.
+     */
+    public void preload(int viewX, int viewY, int viewWidth, int viewHeight) {
+        setRequestedArea(viewX, viewY, viewWidth, viewHeight);
+
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                int index = index(chunkX, chunkY);
+                if (loaded.get(index) == null) {
+                    load(index, chunkX, chunkY);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns loaded chunk, or null if it is outside the world or still loading.
+     */
+    public Chunk getChunk(int chunkX, int chunkY) {
+        if (chunkX < 0 || chunkY < 0 || chunkX >= chunkCols || chunkY >= chunkRows) return null;
+        return loaded.get(index(chunkX, chunkY));
+    }
+
+    /**
+     * Returns tile at world cell, or -1 if empty or not loaded yet.
+     */
+    public int getTile(int layer, int row, int col) {
+        return getTile(layer, row, col, -1);
+    }
+
+    /**
+     * Returns tile at world cell, or notLoaded if its chunk has not been streamed in.
+     */
+    public int getTile(int layer, int row, int col, int notLoaded) {
+        Chunk chunk = getChunk(col / Chunk.SIZE, row / Chunk.SIZE);
+        return chunk == null ? notLoaded : chunk.getTile(layer, row % Chunk.SIZE, col % Chunk.SIZE);
+    }
+
+    /**
+     * Changes tile at world cell.
+     *
+     * @return false if the chunk is not loaded (the edit is dropped)
+     */
+    public boolean setTile(int layer, int row, int col, int tileIndex) {
+        Chunk chunk = getChunk(col / Chunk.SIZE, row / Chunk.SIZE);
+        if (chunk == null) return false;
+        chunk.setTile(layer, row % Chunk.SIZE, col % Chunk.SIZE, tileIndex);
+        return true;
+    }
+
+    public int getLoadedChunkCount() {
+        return loadedCount.get();
+    }
+
+    public int getPendingChunkCount() {
+        return pendingCount.get();
+    }
+
+    public ChunkSource getSource() {
+        return source;
+    }
+
+    /**
+     * Stops background loading threads.
+     */
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    private int index(int chunkX, int chunkY) {
+        return chunkY * chunkCols + chunkX;
+    }
+
+    private void setRequestedArea(int viewX, int viewY, int viewWidth, int viewHeight) {
+        int chunkWidth = Chunk.SIZE * TILE_WIDTH;
+        int chunkHeight = Chunk.SIZE * TILE_HEIGHT;
+        minChunkX = Math.max(0, Math.floorDiv(viewX, chunkWidth) - LOAD_MARGIN);
+        minChunkY = Math.max(0, Math.floorDiv(viewY, chunkHeight) - LOAD_MARGIN);
+        maxChunkX = Math.min(chunkCols - 1, Math.floorDiv(viewX + viewWidth - 1, chunkWidth) + LOAD_MARGIN);
+        maxChunkY = Math.min(chunkRows - 1, Math.floorDiv(viewY + viewHeight - 1, chunkHeight) + LOAD_MARGIN);
+    }
+
+    /**
+     * Decodes a chunk and publishes it. A chunk that fails stays pending,
+     * so it is reported once instead of being retried every tick.
+     */
+    private void load(int index, int chunkX, int chunkY) {
+        ChunkLoadEvent event = new ChunkLoadEvent();
+        event.begin();
+        try {
+            if (loaded.compareAndSet(index, null, source.loadChunk(chunkX, chunkY))) {
+                loadedCount.incrementAndGet();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load chunk " + chunkX + "," + chunkY, e);
+        }
+        if (pending.compareAndSet(index, 1, 0)) pendingCount.decrementAndGet();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.chunkX = chunkX;
+            event.chunkY = chunkY;
+            event.commit();
+        }
+    }
+
+    /**
+     * Drops unedited chunks outside the requested area, farthest first,
+     * until the budget is met.
+     */
+    private void evictDistantChunks() {
+        float centerX = (minChunkX + maxChunkX) / 2f;
+        float centerY = (minChunkY + maxChunkY) / 2f;
+
+        List<Chunk> candidates = new ArrayList<>();
+        for (int i = 0; i < loaded.length(); i++) {
+            Chunk chunk = loaded.get(i);
+            if (chunk == null) continue;
+            boolean inArea = chunk.getChunkX() >= minChunkX && chunk.getChunkX() <= maxChunkX
+                    && chunk.getChunkY() >= minChunkY && chunk.getChunkY() <= maxChunkY;
+            if (!inArea && !chunk.isModified()) candidates.add(chunk);
+        }
+        candidates.sort(Comparator.comparingDouble((Chunk chunk) ->
+                Math.abs(chunk.getChunkX() - centerX) + Math.abs(chunk.getChunkY() - centerY)).reversed());
+
+        int excess = loadedCount.get() - maxLoadedChunks;
+        for (int i = 0; i < excess && i < candidates.size(); i++) {
+            Chunk chunk = candidates.get(i);
+            if (loaded.compareAndSet(index(chunk.getChunkX(), chunk.getChunkY()), chunk, null)) {
+                loadedCount.decrementAndGet();
+            }
+        }
+    }
+}
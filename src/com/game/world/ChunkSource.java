@@ -0,0 +1,28 @@
+package com.game.world;
+
+import java.io.IOException;
+
+/**
+ * Provides world dimensions and decodes chunks on demand.
+ * loadChunk() is called from background loader threads and must be thread-safe.
+ */
+public interface ChunkSource {
+
+    int getRows();
+
+    int getCols();
+
+    /**
+     * Returns layer names in render order; chunks hold layers in the same order.
+     */
+    String[] getLayerNames();
+
+    default int getLayerCount() {
+        return getLayerNames().length;
+    }
+
+    /**
+     * Decodes one chunk; cells past the world edge are empty (-1).
+     */
+    Chunk loadChunk(int chunkX, int chunkY) throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.game.world;
+
+/**
+ * Chunk source backed by one whole in-memory TileGrid (text maps, generated worlds).
+ */
+public class GridChunkSource implements ChunkSource {
+
+    private final TileGrid grid;
+
+    public GridChunkSource(TileGrid grid) {
+        this.grid = grid;
+    }
+
+    @Override
+    public int getRows() {
+        return grid.getRows();
+    }
+
+    @Override
+    public int getCols() {
+        return grid.getCols();
+    }
+
+    @Override
+    public String[] getLayerNames() {
+        return grid.getLayerNames();
+    }
+
+    @Override
+    public Chunk loadChunk(int chunkX, int chunkY) {
+        TileGrid chunkGrid = new TileGrid(Chunk.SIZE, Chunk.SIZE, grid.getLayerNames());
+        chunkGrid.copyRegion(grid, chunkY * Chunk.SIZE, chunkX * Chunk.SIZE,
+                0, 0, Chunk.SIZE, Chunk.SIZE);
+        return new Chunk(chunkX, chunkY, chunkGrid);
+    }
+}
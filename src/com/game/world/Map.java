@@ -1,96 +1,422 @@
 package com.game.world;
 
+import com.game.asset_helper.ImageUtils;
 import com.game.asset_helper.SpriteLoader;
+import com.game.metrics.GameMetrics;
+import com.game.profiling.MapLoadEvent;
+import com.game.profiling.MapRenderEvent;
+import com.game.render.DirtyRegion;
 
 import java.awt.*;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+
+import static com.game.constants.GameConfig.CHUNK_BUDGET;
+import static com.game.constants.GameConfig.CHUNK_LOADER_THREADS;
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
 
 /**
- * Tilemap renderer for background and grass layers.
- * Loads map data from CSV files and renders scaled sprites.
+ * Tilemap renderer for any number of named layers (map1: background, grass, collision).
+ * The collision layer is data only and never drawn.
+ * Map data (.tmap, or CSV as a fallback) is held in chunks streamed around
+ * the camera by a ChunkManager; chunks that are still loading are simply not drawn.
+ * Only chunks intersecting the camera view are visited, so render cost follows
+ * screen size, not map size. Static layers of each chunk are composited into a
+ * cached page, so a frame costs a few blits.
  */
 public class Map {
 
     // Map configuration
     private static final String MAP_BASE_PATH = "/map_resources/map/";
     private static final String MAP_EXTENSION = ".txt";
-    private static final float SCALE = 2.0f;
-    private static final float MAP_SPRITE_WIDTH = 16 * SCALE;
-    private static final float MAP_SPRITE_HEIGHT = 16 * SCALE;
+    private static final String[] TEXT_LAYERS = {"background", "grass", TileCollider.COLLISION_LAYER};
+    // Layer cache configuration
+    private static final int MAX_CACHED_PAGES = 48; // ~48MB of 512x512 ARGB pages, LRU evicted
+    private static final int CHUNK_PIXEL_WIDTH = Chunk.SIZE * TILE_WIDTH;
+    private static final int CHUNK_PIXEL_HEIGHT = Chunk.SIZE * TILE_HEIGHT;
     // Dependencies
     private final SpriteLoader spriteLoader;
     // Map data
     int mapNumber = 1;
-    int[][] background;
-    int[][] grass;
+    private final ChunkManager chunkManager;
+    private final int rows, cols, layerCount;
+    private final String[] layerNames;
+    private final int[] visibleLayers; // Every layer except collision, in render order
+    // Static layer cache, one page per chunk
+    private boolean layerCacheEnabled = true;
+    private final java.util.Map<Chunk, BufferedImage> pageCache;
+    private final BitSet dirtyScratch = new BitSet(Chunk.SIZE * Chunk.SIZE);
+    private int pagesBuilt; // Total, for MapRenderEvent
 
     /**
      * Loads map data for current map number.
      */
     public Map(SpriteLoader spriteLoader) {
+        this(spriteLoader, null);
+    }
+
+    /**
+     * Streams chunks from the given source instead of the map files (e.g. generated worlds).
+     */
+    public Map(SpriteLoader spriteLoader, ChunkSource source) {
         this.spriteLoader = spriteLoader;
-        background = loadMapData("background");
-        grass = loadMapData("grass");
+        if (source == null) {
+            source = openMapData(mapNumber);
+        }
+        chunkManager = new ChunkManager(source, CHUNK_BUDGET, CHUNK_LOADER_THREADS);
+        rows = source.getRows();
+        cols = source.getCols();
+        layerNames = source.getLayerNames();
+        layerCount = layerNames.length;
+        visibleLayers = findVisibleLayers(layerNames);
+        // Keyed by chunk identity: an evicted and reloaded chunk gets a fresh page
+        pageCache = new LinkedHashMap<>(MAX_CACHED_PAGES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<Chunk, BufferedImage> eldest) {
+                return size() > MAX_CACHED_PAGES;
+            }
+        };
+    }
+
+    /**
+     * Opens map data for a map number: the binary .tmap if present
+     * (memory-mapped, chunks decoded on demand), otherwise the CSV layers.
+     * Safe to call from a loader thread; pass the result to Map(SpriteLoader, ChunkSource).
+     *
+     * @throws RuntimeException if the map files are missing or corrupt
+     */
+    public static ChunkSource openMapData(int mapNumber) {
+        String baseName = MAP_BASE_PATH + "map" + mapNumber;
+        MapLoadEvent event = new MapLoadEvent();
+        event.begin();
+        ChunkSource source;
+        try {
+            source = BinaryChunkSource.openResource(baseName + MapFormat.EXTENSION);
+            event.format = "tmap";
+            if (source == null) {
+                int[][][] layers = new int[TEXT_LAYERS.length][][];
+                for (int i = 0; i < layers.length; i++) {
+                    layers[i] = TextMapReader.readResource(baseName + "_" + TEXT_LAYERS[i] + MAP_EXTENSION);
+                }
+                source = new GridChunkSource(TileGrid.fromLayers(TEXT_LAYERS, layers));
+                event.format = "csv";
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load map " + mapNumber, e);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.map = baseName;
+            event.rows = source.getRows();
+            event.cols = source.getCols();
+            event.layers = source.getLayerNames().length;
+            event.commit();
+        }
+        return source;
+    }
+
+    private static int[] findVisibleLayers(String[] layerNames) {
+        int[] layers = new int[layerNames.length];
+        int count = 0;
+        for (int layer = 0; layer < layerNames.length; layer++) {
+            if (!layerNames[layer].equals(TileCollider.COLLISION_LAYER)) layers[count++] = layer;
+        }
+        return Arrays.copyOf(layers, count);
+    }
+
+    /**
+     * Schedules chunks around the view for loading and evicts distant ones.
+     * Called from the game thread every update; never blocks.
+     */
+    public void update(int viewX, int viewY, int viewWidth, int viewHeight) {
+        chunkManager.update(viewX, viewY, viewWidth, viewHeight);
+    }
+
+    /**
+     * Loads chunks for the view synchronously. Startup only, before the first frame.
+     */
+    public void preload(int viewX, int viewY, int viewWidth, int viewHeight) {
+        chunkManager.preload(viewX, viewY, viewWidth, viewHeight);
+    }
+
+    /**
+     * Renders background then grass layers for the camera's view.
+     * Graphics must already be translated to world space (origin = world 0,0).
+     * Uses the cached chunk pages unless disabled, otherwise draws tile by tile.
+     */
+    public void render(Graphics g, int viewX, int viewY, int viewWidth, int viewHeight) {
+        MapRenderEvent event = new MapRenderEvent();
+        event.begin();
+        int chunksDrawn = 0;
+        int pagesBuiltBefore = pagesBuilt;
+        int firstChunkX = Math.max(0, viewX / CHUNK_PIXEL_WIDTH);
+        int firstChunkY = Math.max(0, viewY / CHUNK_PIXEL_HEIGHT);
+        int lastChunkX = Math.min((cols - 1) / Chunk.SIZE, (viewX + viewWidth - 1) / CHUNK_PIXEL_WIDTH);
+        int lastChunkY = Math.min((rows - 1) / Chunk.SIZE, (viewY + viewHeight - 1) / CHUNK_PIXEL_HEIGHT);
+
+        for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+            for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+                Chunk chunk = chunkManager.getChunk(chunkX, chunkY);
+                if (chunk == null) continue; // Still streaming in
+
+                if (layerCacheEnabled) {
+                    g.drawImage(getPage(chunk, null), chunkX * CHUNK_PIXEL_WIDTH, chunkY * CHUNK_PIXEL_HEIGHT, null);
+                    GameMetrics.DRAW_CALLS.increment();
+                } else {
+                    renderChunk(g, chunk, viewX, viewY, viewWidth, viewHeight);
+                }
+                chunksDrawn++;
+            }
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.layers = visibleLayers.length;
+            event.layerCache = layerCacheEnabled;
+            event.chunksDrawn = chunksDrawn;
+            event.pagesBuilt = pagesBuilt - pagesBuiltBefore;
+            event.commit();
+        }
+    }
+
+    /**
+     * Brings the cached pages of the chunks in view up to date and marks in dirty what
+     * changed on screen because of it: edited cells, and whole chunks drawn for the first
+     * time (just streamed in, or rebuilt after eviction). Call before render() each frame.
+     * Layer cache only; with the cache off nothing is tracked.
+     */
+    public void refresh(int viewX, int viewY, int viewWidth, int viewHeight, DirtyRegion dirty) {
+        if (!layerCacheEnabled) return;
+        int firstChunkX = Math.max(0, viewX / CHUNK_PIXEL_WIDTH);
+        int firstChunkY = Math.max(0, viewY / CHUNK_PIXEL_HEIGHT);
+        int lastChunkX = Math.min((cols - 1) / Chunk.SIZE, (viewX + viewWidth - 1) / CHUNK_PIXEL_WIDTH);
+        int lastChunkY = Math.min((rows - 1) / Chunk.SIZE, (viewY + viewHeight - 1) / CHUNK_PIXEL_HEIGHT);
+
+        for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+            for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+                Chunk chunk = chunkManager.getChunk(chunkX, chunkY);
+                if (chunk != null) getPage(chunk, dirty);
+            }
+        }
+    }
+
+    /**
+     * Copies the atlas sprite ids of a block of cells, for every drawn layer in render order,
+     * into out[(layer * rowCount + row) * colCount + col]. Empty cells, cells outside the
+     * map and cells of chunks still streaming in get -1. Used by the TileRasterizer.
+     *
+     * @return number of non-empty tiles copied
+     */
+    public int copyVisibleSprites(int firstRow, int firstCol, int rowCount, int colCount, int[] out) {
+        int tiles = 0;
+        for (int row = 0; row < rowCount; row++) {
+            for (int col = 0; col < colCount; col++) {
+                int mapRow = firstRow + row, mapCol = firstCol + col;
+                boolean inside = mapRow >= 0 && mapRow < rows && mapCol >= 0 && mapCol < cols;
+                Chunk chunk = inside ? chunkManager.getChunk(mapCol / Chunk.SIZE, mapRow / Chunk.SIZE) : null;
+                for (int i = 0; i < visibleLayers.length; i++) {
+                    int tile = chunk == null ? -1
+                            : chunk.getTile(visibleLayers[i], mapRow % Chunk.SIZE, mapCol % Chunk.SIZE);
+                    out[(i * rowCount + row) * colCount + col] = tile < 0 ? -1 : spriteLoader.getMapSpriteId(tile);
+                    if (tile >= 0) tiles++;
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Returns number of layers drawn (all but collision).
+     */
+    public int getVisibleLayerCount() {
+        return visibleLayers.length;
+    }
+
+    /**
+     * Changes a single tile and invalidates only that cell of the cache.
+     * Edits to chunks that are not loaded are dropped.
+     */
+    public void setTile(int layer, int row, int col, int tileIndex) {
+        chunkManager.setTile(layer, row, col, tileIndex);
+    }
+
+    /**
+     * Returns tile index at cell, or -1 for an empty or not yet loaded tile.
+     */
+    public int getTile(int layer, int row, int col) {
+        return chunkManager.getTile(layer, row, col);
+    }
+
+    /**
+     * Returns tile index at cell, or notLoaded if its chunk is still streaming in.
+     */
+    public int getTile(int layer, int row, int col, int notLoaded) {
+        return chunkManager.getTile(layer, row, col, notLoaded);
+    }
+
+    /**
+     * Returns index of a named layer for getTile/setTile, or -1 if the map has none.
+     */
+    public int getLayerIndex(String name) {
+        for (int layer = 0; layer < layerCount; layer++) {
+            if (layerNames[layer].equals(name)) return layer;
+        }
+        return -1;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns map width in world pixels.
+     */
+    public int getPixelWidth() {
+        return cols * TILE_WIDTH;
     }
 
     /**
-     * Loads CSV map data into 20x30 tile grid.
-     * Returns null tile (-1) for empty spaces.
+     * Returns map height in world pixels.
      */
-    private int[][] loadMapData(String mapName) {
-        String fileName = "map" + mapNumber + "_" + mapName + MAP_EXTENSION;
-        InputStream inputStream = getClass().getResourceAsStream(MAP_BASE_PATH + fileName);
+    public int getPixelHeight() {
+        return rows * TILE_HEIGHT;
+    }
+
+    public ChunkManager getChunkManager() {
+        return chunkManager;
+    }
+
+    /**
+     * Toggles the static layer cache (per-tile path is kept for comparison).
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+        layerCacheEnabled = enabled;
+    }
 
-        if (inputStream == null) {
-            throw new RuntimeException("File not found: " + MAP_BASE_PATH + fileName);
+    public boolean isLayerCacheEnabled() {
+        return layerCacheEnabled;
+    }
+
+    /**
+     * Returns cached page for chunk, compositing all its layers on first use
+     * and redrawing only cells edited since. Marks what it redrew in dirty (if not null).
+     */
+    private BufferedImage getPage(Chunk chunk, DirtyRegion dirty) {
+        BufferedImage page = pageCache.get(chunk);
+        if (page == null) {
+            page = ImageUtils.createCompatibleImage(CHUNK_PIXEL_WIDTH, CHUNK_PIXEL_HEIGHT);
+            chunk.drainDirtyCells(dirtyScratch); // Full build covers earlier edits
+
+            Graphics2D g2 = page.createGraphics();
+            int drawn = 0;
+            try {
+                for (int cell = 0; cell < Chunk.SIZE * Chunk.SIZE; cell++) {
+                    drawn += drawCell(g2, chunk, cell / Chunk.SIZE, cell % Chunk.SIZE);
+                }
+            } finally {
+                g2.dispose();
+            }
+            GameMetrics.TILES_CACHED.add(drawn);
+            pageCache.put(chunk, page);
+            pagesBuilt++;
+            if (dirty != null) {
+                dirty.add(chunk.getChunkX() * CHUNK_PIXEL_WIDTH, chunk.getChunkY() * CHUNK_PIXEL_HEIGHT,
+                        CHUNK_PIXEL_WIDTH, CHUNK_PIXEL_HEIGHT);
+            }
+        } else if (chunk.drainDirtyCells(dirtyScratch)) {
+            redrawDirtyCells(page, chunk, dirty);
         }
+        return page;
+    }
 
-        int[][] map = new int[20][30];
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            int row = 0;
-            String line;
-            while ((line = reader.readLine()) != null && row < 20) {
-                String[] values = line.split(",");
-                for (int col = 0; col < Math.min(values.length, 30); col++) {
-                    map[row][col] = Integer.parseInt(values[col].trim());
+    /**
+     * Clears and recomposites every invalidated cell of a cached page.
+     */
+    private void redrawDirtyCells(BufferedImage page, Chunk chunk, DirtyRegion dirty) {
+        Graphics2D g2 = page.createGraphics();
+        int drawn = 0;
+        try {
+            for (int cell = dirtyScratch.nextSetBit(0); cell >= 0; cell = dirtyScratch.nextSetBit(cell + 1)) {
+                int localRow = cell / Chunk.SIZE;
+                int localCol = cell % Chunk.SIZE;
+
+                g2.setComposite(AlphaComposite.Clear);
+                g2.fillRect(localCol * TILE_WIDTH, localRow * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT);
+                g2.setComposite(AlphaComposite.SrcOver);
+                drawn += drawCell(g2, chunk, localRow, localCol);
+                if (dirty != null) {
+                    dirty.add(chunk.getChunkX() * CHUNK_PIXEL_WIDTH + localCol * TILE_WIDTH,
+                            chunk.getChunkY() * CHUNK_PIXEL_HEIGHT + localRow * TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT);
                 }
-                row++;
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+        } finally {
+            g2.dispose();
         }
-        return map;
+        GameMetrics.TILES_CACHED.add(drawn);
     }
 
     /**
-     * Renders background then grass layers tile by tile.
-     * Skips empty tiles (index < 0).
+     * Draws all layers of one chunk cell relative to the chunk's top-left corner.
+     *
+     * @return number of tiles drawn
      */
-    public void render(Graphics g) {
-        renderLayer(g, background);
-        renderLayer(g, grass);
+    private int drawCell(Graphics g, Chunk chunk, int localRow, int localCol) {
+        TileGrid grid = chunk.getGrid();
+        int drawn = 0;
+        for (int layer : visibleLayers) {
+            if (drawTile(g, grid.getTile(layer, localRow, localCol), localCol * TILE_WIDTH, localRow * TILE_HEIGHT)) {
+                drawn++;
+            }
+        }
+        return drawn;
     }
 
     /**
-     * Renders single map layer (background or grass).
+     * Renders the visible cells of a chunk tile by tile, layer by layer, in world space.
      */
-    private void renderLayer(Graphics g, int[][] layer) {
-        for (int j = 0; j < layer.length; j++) {
-            for (int i = 0; i < layer[j].length; i++) {
-                int index = layer[j][i];
-                if (index < 0) continue; // Skip empty tiles
+    private void renderChunk(Graphics g, Chunk chunk, int viewX, int viewY, int viewWidth, int viewHeight) {
+        int originCol = chunk.getChunkX() * Chunk.SIZE;
+        int originRow = chunk.getChunkY() * Chunk.SIZE;
+        int firstCol = Math.max(0, viewX / TILE_WIDTH - originCol);
+        int firstRow = Math.max(0, viewY / TILE_HEIGHT - originRow);
+        int lastCol = Math.min(Chunk.SIZE - 1, (viewX + viewWidth - 1) / TILE_WIDTH - originCol);
+        int lastRow = Math.min(Chunk.SIZE - 1, (viewY + viewHeight - 1) / TILE_HEIGHT - originRow);
 
-                g.drawImage(
-                        spriteLoader.getMapSpriteByIndex(index),
-                        (int) (i * MAP_SPRITE_WIDTH),
-                        (int) (j * MAP_SPRITE_HEIGHT),
-                        (int) MAP_SPRITE_WIDTH,
-                        (int) MAP_SPRITE_HEIGHT,
-                        null
-                );
+        TileGrid grid = chunk.getGrid();
+        short[] tiles = grid.getTiles();
+        int drawn = 0;
+        for (int layer : visibleLayers) {
+            for (int j = firstRow; j <= lastRow; j++) {
+                int offset = grid.rowOffset(layer, j);
+                for (int i = firstCol; i <= lastCol; i++) {
+                    if (drawTile(g, tiles[offset + i], (originCol + i) * TILE_WIDTH, (originRow + j) * TILE_HEIGHT)) {
+                        drawn++;
+                    }
+                }
             }
         }
+        GameMetrics.DRAW_CALLS.add(drawn);
+        GameMetrics.TILES_DRAWN.add(drawn);
+    }
+
+    /**
+     * Draws one tile at pixel position. Skips empty tiles (index < 0).
+     *
+     * @return whether anything was drawn
+     */
+    private boolean drawTile(Graphics g, int index, int x, int y) {
+        if (index < 0) return false;
+
+        spriteLoader.draw(g, spriteLoader.getMapSpriteId(index), x, y);
+        return true;
     }
 }
@@ -0,0 +1,47 @@
+package com.game.world;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Converts the CSV layers of a map into one .tmap file.
+ * <p>
+ * Usage (resources on the classpath):
+ * java com.game.world.MapConverter [--deflate] mapNumber output.tmap layer...
+ * Example: java com.game.world.MapConverter 1 resources/map_resources/map/map1.tmap background grass
+ */
+public class MapConverter {
+
+    private static final String MAP_BASE_PATH = "/map_resources/map/";
+
+    public static void main(String[] args) throws IOException {
+        int first = 0;
+        boolean compress = false;
+        if (args.length > 0 && args[0].equals("--deflate")) {
+            compress = true;
+            first = 1;
+        }
+        if (args.length - first < 3) {
+            System.err.println("Usage: MapConverter [--deflate] mapNumber output.tmap layer...");
+            System.exit(1);
+        }
+
+        int mapNumber = Integer.parseInt(args[first]);
+        Path output = Path.of(args[first + 1]);
+        String[] layerNames = new String[args.length - first - 2];
+        int[][][] layers = new int[layerNames.length][][];
+
+        for (int i = 0; i < layerNames.length; i++) {
+            layerNames[i] = args[first + 2 + i];
+            layers[i] = TextMapReader.readResource(
+                    MAP_BASE_PATH + "map" + mapNumber + "_" + layerNames[i] + ".txt");
+            if (layers[i].length != layers[0].length || layers[i][0].length != layers[0][0].length) {
+                throw new IOException("Layer " + layerNames[i] + " size differs from " + layerNames[0]);
+            }
+        }
+
+        MapFormat.write(output, TileGrid.fromLayers(layerNames, layers), compress);
+        System.out.println("Wrote " + output + ": " + layers[0][0].length + "x" + layers[0].length
+                + ", " + layerNames.length + " layers" + (compress ? ", deflated" : ""));
+    }
+}
@@ -0,0 +1,112 @@
+package com.game.world;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Compact binary tilemap format (.tmap), big-endian:
+ * <pre>
+ * int    magic 'TMAP'
+ * short  version
+ * short  flags (FLAG_DEFLATE = chunk payloads are deflated)
+ * int    cols, rows
+ * short  chunkSize
+ * short  layerCount
+ * layerCount x { short nameLength, UTF-8 name }
+ * chunkCount x { long offset, int length }   chunk table, row-major by chunk
+ * chunk payloads: layerCount x chunkSize^2 shorts (tile id, -1 = empty)
+ * </pre>
+ * Chunks can be decoded independently, so a streamed world only touches the
+ * parts of the file around the camera.
+ */
+public class MapFormat {
+
+    public static final int MAGIC = 0x544D4150; // "TMAP"
+    public static final short VERSION = 1;
+    public static final short FLAG_DEFLATE = 1;
+    public static final String EXTENSION = ".tmap";
+
+    /**
+     * Writes a whole grid as a chunked .tmap file.
+     */
+    public static void write(Path path, TileGrid tileGrid, boolean compress) throws IOException {
+        int rows = tileGrid.getRows();
+        int cols = tileGrid.getCols();
+        String[] layerNames = tileGrid.getLayerNames();
+        int chunkCols = (cols + Chunk.SIZE - 1) / Chunk.SIZE;
+        int chunkRows = (rows + Chunk.SIZE - 1) / Chunk.SIZE;
+        GridChunkSource grid = new GridChunkSource(tileGrid);
+
+        // Encode every chunk first so the table can hold final offsets
+        byte[][] payloads = new byte[chunkCols * chunkRows][];
+        for (int chunkY = 0; chunkY < chunkRows; chunkY++) {
+            for (int chunkX = 0; chunkX < chunkCols; chunkX++) {
+                byte[] raw = encodeChunk(grid.loadChunk(chunkX, chunkY));
+                payloads[chunkY * chunkCols + chunkX] = compress ? deflate(raw) : raw;
+            }
+        }
+
+        byte[][] names = new byte[layerNames.length][];
+        int headerSize = 4 + 2 + 2 + 4 + 4 + 2 + 2;
+        for (int i = 0; i < layerNames.length; i++) {
+            names[i] = layerNames[i].getBytes(StandardCharsets.UTF_8);
+            headerSize += 2 + names[i].length;
+        }
+        long offset = headerSize + (long) payloads.length * (8 + 4);
+
+        try (OutputStream file = Files.newOutputStream(path);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(compress ? FLAG_DEFLATE : 0);
+            out.writeInt(cols);
+            out.writeInt(rows);
+            out.writeShort(Chunk.SIZE);
+            out.writeShort(layerNames.length);
+            for (byte[] name : names) {
+                out.writeShort(name.length);
+                out.write(name);
+            }
+            for (byte[] payload : payloads) {
+                out.writeLong(offset);
+                out.writeInt(payload.length);
+                offset += payload.length;
+            }
+            for (byte[] payload : payloads) {
+                out.write(payload);
+            }
+        }
+    }
+
+    private static byte[] encodeChunk(Chunk chunk) {
+        short[] tiles = chunk.getGrid().getTiles();
+        ByteBuffer buffer = ByteBuffer.allocate(tiles.length * 2);
+        buffer.asShortBuffer().put(tiles);
+        return buffer.array();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] out = new byte[raw.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == out.length) out = Arrays.copyOf(out, out.length * 2);
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.end();
+        }
+    }
+}
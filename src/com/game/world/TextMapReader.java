@@ -0,0 +1,66 @@
+package com.game.world;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses the legacy CSV tile layers (map1_background.txt, ...).
+ * Grid size follows the file: rows = non-blank lines, cols = longest line.
+ * Short lines are padded with empty tiles (-1).
+ */
+public class TextMapReader {
+
+    /**
+     * Reads one layer from a classpath resource.
+     *
+     * @throws IOException if the resource is missing or malformed
+     */
+    public static int[][] readResource(String resourcePath) throws IOException {
+        InputStream inputStream = TextMapReader.class.getResourceAsStream(resourcePath);
+        if (inputStream == null) {
+            throw new IOException("File not found: " + resourcePath);
+        }
+        try (inputStream) {
+            return read(inputStream, resourcePath);
+        }
+    }
+
+    /**
+     * Reads one layer; name is only used in error messages.
+     */
+    public static int[][] read(InputStream inputStream, String name) throws IOException {
+        List<int[]> rowList = new ArrayList<>();
+        int width = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            String[] values = line.split(",");
+            int[] row = new int[values.length];
+            for (int col = 0; col < values.length; col++) {
+                try {
+                    row[col] = Integer.parseInt(values[col].trim());
+                } catch (NumberFormatException e) {
+                    throw new IOException(name + ": bad tile at row " + rowList.size() + ", col " + col, e);
+                }
+            }
+            rowList.add(row);
+            width = Math.max(width, row.length);
+        }
+
+        int[][] map = new int[rowList.size()][width];
+        for (int row = 0; row < map.length; row++) {
+            int[] values = rowList.get(row);
+            Arrays.fill(map[row], values.length, width, -1);
+            System.arraycopy(values, 0, map[row], 0, values.length);
+        }
+        return map;
+    }
+}
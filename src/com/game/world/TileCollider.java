@@ -0,0 +1,131 @@
+package com.game.world;
+
+import static com.game.constants.GameConstant.TILE_HEIGHT;
+import static com.game.constants.GameConstant.TILE_WIDTH;
+
+/**
+ * Swept AABB collision of boxes against solid tiles of a collision layer.
+ * Movement is resolved one axis at a time; each sweep only tests the cells
+ * between the box's leading edge before and after the move, across the rows
+ * (or columns) the box spans. Cost depends on box size and speed, not map size.
+ * <p>
+ * A cell is solid if its collision tile is >= 0, if it lies outside the map,
+ * or if its chunk has not been streamed in yet.
+ */
+public class TileCollider {
+
+    public static final String COLLISION_LAYER = "collision";
+
+    private static final int SOLID_TILE = 0; // Reported for chunks not loaded yet
+    // Keeps resolved edges strictly outside the solid cell
+    private static final float SKIN = 0.001f;
+
+    private final TileQuery tiles;
+    private final int layer; // -1 = map has no collision layer, nothing inside is solid
+    private final int rows, cols;
+
+    /**
+     * Tile lookup used by the collider; Map and TileGrid both fit.
+     */
+    @FunctionalInterface
+    public interface TileQuery {
+        int getTile(int layer, int row, int col);
+    }
+
+    public TileCollider(Map map) {
+        this((layer, row, col) -> map.getTile(layer, row, col, SOLID_TILE),
+                map.getLayerIndex(COLLISION_LAYER), map.getRows(), map.getCols());
+    }
+
+    public TileCollider(TileGrid grid) {
+        this(grid::getTile, grid.getLayerIndex(COLLISION_LAYER), grid.getRows(), grid.getCols());
+    }
+
+    public TileCollider(TileQuery tiles, int layer, int rows, int cols) {
+        this.tiles = tiles;
+        this.layer = layer;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Returns true if a box may not enter the cell.
+     */
+    public boolean isSolid(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return true;
+        if (layer < 0) return false;
+        return tiles.getTile(layer, row, col) >= 0;
+    }
+
+    /**
+     * Returns how far the box can move horizontally (toward dx) before touching a solid cell.
+     */
+    public float sweepX(float x, float y, float width, float height, float dx) {
+        if (dx == 0) return 0;
+        int firstRow = (int) Math.floor(y / TILE_HEIGHT);
+        int lastRow = (int) Math.floor((y + height - SKIN) / TILE_HEIGHT);
+
+        if (dx > 0) {
+            float edge = x + width;
+            int fromCol = (int) Math.floor((edge - SKIN) / TILE_WIDTH) + 1;
+            int toCol = (int) Math.floor((edge + dx - SKIN) / TILE_WIDTH);
+            for (int col = fromCol; col <= toCol; col++) {
+                if (anySolidInColumn(col, firstRow, lastRow)) {
+                    return Math.max(0, col * TILE_WIDTH - edge - SKIN);
+                }
+            }
+        } else {
+            int fromCol = (int) Math.floor(x / TILE_WIDTH) - 1;
+            int toCol = (int) Math.floor((x + dx) / TILE_WIDTH);
+            for (int col = fromCol; col >= toCol; col--) {
+                if (anySolidInColumn(col, firstRow, lastRow)) {
+                    return Math.min(0, (col + 1) * TILE_WIDTH - x + SKIN);
+                }
+            }
+        }
+        return dx;
+    }
+
+    /**
+     * Returns how far the box can move vertically (toward dy) before touching a solid cell.
+     */
+    public float sweepY(float x, float y, float width, float height, float dy) {
+        if (dy == 0) return 0;
+        int firstCol = (int) Math.floor(x / TILE_WIDTH);
+        int lastCol = (int) Math.floor((x + width - SKIN) / TILE_WIDTH);
+
+        if (dy > 0) {
+            float edge = y + height;
+            int fromRow = (int) Math.floor((edge - SKIN) / TILE_HEIGHT) + 1;
+            int toRow = (int) Math.floor((edge + dy - SKIN) / TILE_HEIGHT);
+            for (int row = fromRow; row <= toRow; row++) {
+                if (anySolidInRow(row, firstCol, lastCol)) {
+                    return Math.max(0, row * TILE_HEIGHT - edge - SKIN);
+                }
+            }
+        } else {
+            int fromRow = (int) Math.floor(y / TILE_HEIGHT) - 1;
+            int toRow = (int) Math.floor((y + dy) / TILE_HEIGHT);
+            for (int row = fromRow; row >= toRow; row--) {
+                if (anySolidInRow(row, firstCol, lastCol)) {
+                    return Math.min(0, (row + 1) * TILE_HEIGHT - y + SKIN);
+                }
+            }
+        }
+        return dy;
+    }
+
+    private boolean anySolidInColumn(int col, int firstRow, int lastRow) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            if (isSolid(row, col)) return true;
+        }
+        return false;
+    }
+
+    private boolean anySolidInRow(int row, int firstCol, int lastCol) {
+        for (int col = firstCol; col <= lastCol; col++) {
+            if (isSolid(row, col)) return true;
+        }
+        return false;
+    }
+}
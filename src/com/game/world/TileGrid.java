@@ -0,0 +1,171 @@
+package com.game.world;
+
+import java.util.Arrays;
+
+/**
+ * Any number of named tile layers stored in one contiguous short[].
+ * Layout is layer-major, then row-major: index = (layer * rows + row) * cols + col,
+ * so a row of one layer is a contiguous run that loops and System.arraycopy can stream.
+ * Tile ids are shorts; -1 means empty.
+ */
+public class TileGrid {
+
+    public static final short EMPTY = -1;
+
+    /**
+     * Callback for region iteration.
+     */
+    @FunctionalInterface
+    public interface TileVisitor {
+        void visit(int row, int col, int tileIndex);
+    }
+
+    private final String[] layerNames;
+    private final int rows, cols;
+    private final short[] tiles;
+
+    /**
+     * Creates a grid with every cell of every layer empty.
+     */
+    public TileGrid(int rows, int cols, String... layerNames) {
+        this.rows = rows;
+        this.cols = cols;
+        this.layerNames = layerNames.clone();
+        this.tiles = new short[layerNames.length * rows * cols];
+        Arrays.fill(tiles, EMPTY);
+    }
+
+    /**
+     * Builds a grid from whole int[row][col] layers of equal size.
+     *
+     * @throws IllegalArgumentException if sizes differ or an id does not fit in a short
+     */
+    public static TileGrid fromLayers(String[] layerNames, int[][]... layers) {
+        if (layerNames.length != layers.length) {
+            throw new IllegalArgumentException(layerNames.length + " names for " + layers.length + " layers");
+        }
+        int rows = layers[0].length;
+        int cols = rows == 0 ? 0 : layers[0][0].length;
+        TileGrid grid = new TileGrid(rows, cols, layerNames);
+
+        for (int layer = 0; layer < layers.length; layer++) {
+            if (layers[layer].length != rows) {
+                throw new IllegalArgumentException("Layer " + layerNames[layer] + " has "
+                        + layers[layer].length + " rows, expected " + rows);
+            }
+            for (int row = 0; row < rows; row++) {
+                int[] values = layers[layer][row];
+                if (values.length != cols) {
+                    throw new IllegalArgumentException("Layer " + layerNames[layer] + " row " + row
+                            + " has " + values.length + " cols, expected " + cols);
+                }
+                int offset = grid.rowOffset(layer, row);
+                for (int col = 0; col < cols; col++) {
+                    grid.tiles[offset + col] = toShort(values[col]);
+                }
+            }
+        }
+        return grid;
+    }
+
+    public int getTile(int layer, int row, int col) {
+        return tiles[(layer * rows + row) * cols + col];
+    }
+
+    public void setTile(int layer, int row, int col, int tileIndex) {
+        tiles[(layer * rows + row) * cols + col] = toShort(tileIndex);
+    }
+
+    /**
+     * Returns index of the first cell of a layer row in getTiles().
+     * Cells of that row follow at offset + col.
+     */
+    public int rowOffset(int layer, int row) {
+        return (layer * rows + row) * cols;
+    }
+
+    /**
+     * Returns the backing array for bulk reads/writes (see rowOffset).
+     */
+    public short[] getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Visits the non-empty cells of a layer region (inclusive bounds, clamped
+     * to the grid) in row-major order.
+     */
+    public void forEachTile(int layer, int firstRow, int firstCol, int lastRow, int lastCol,
+                            TileVisitor visitor) {
+        firstRow = Math.max(0, firstRow);
+        firstCol = Math.max(0, firstCol);
+        lastRow = Math.min(rows - 1, lastRow);
+        lastCol = Math.min(cols - 1, lastCol);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            int offset = rowOffset(layer, row);
+            for (int col = firstCol; col <= lastCol; col++) {
+                short tile = tiles[offset + col];
+                if (tile != EMPTY) visitor.visit(row, col, tile);
+            }
+        }
+    }
+
+    /**
+     * Copies a rectangular region of every layer from another grid with the same layers.
+     * Cells outside either grid are skipped.
+     */
+    public void copyRegion(TileGrid source, int sourceRow, int sourceCol,
+                           int targetRow, int targetCol, int height, int width) {
+        if (source.layerNames.length != layerNames.length) {
+            throw new IllegalArgumentException("Layer count mismatch");
+        }
+        int copyWidth = Math.min(width, Math.min(source.cols - sourceCol, cols - targetCol));
+        int copyHeight = Math.min(height, Math.min(source.rows - sourceRow, rows - targetRow));
+        if (copyWidth <= 0 || copyHeight <= 0) return;
+
+        for (int layer = 0; layer < layerNames.length; layer++) {
+            for (int row = 0; row < copyHeight; row++) {
+                System.arraycopy(source.tiles, source.rowOffset(layer, sourceRow + row) + sourceCol,
+                        tiles, rowOffset(layer, targetRow + row) + targetCol, copyWidth);
+            }
+        }
+    }
+
+    /**
+     * Returns layer index for name, or -1 if the grid has no such layer.
+     */
+    public int getLayerIndex(String name) {
+        for (int layer = 0; layer < layerNames.length; layer++) {
+            if (layerNames[layer].equals(name)) return layer;
+        }
+        return -1;
+    }
+
+    public String getLayerName(int layer) {
+        return layerNames[layer];
+    }
+
+    public String[] getLayerNames() {
+        return layerNames.clone();
+    }
+
+    public int getLayerCount() {
+        return layerNames.length;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    private static short toShort(int tileIndex) {
+        if (tileIndex < Short.MIN_VALUE || tileIndex > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Tile id does not fit in a short: " + tileIndex);
+        }
+        return (short) tileIndex;
+    }
+}